@@ -0,0 +1,67 @@
+package org.easy.config.benchmark;
+
+import org.easy.config.auto.AutoSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutoSerializerBenchmark {
+
+    private final AutoSerializer<Models.Flat> flatSerializer = new AutoSerializer<>(Models.Flat.class);
+    private final AutoSerializer<Models.Inherited> inheritedSerializer = new AutoSerializer<>(Models.Inherited.class);
+    private final AutoSerializer<Models.Service> nestedSerializer = new AutoSerializer<>(Models.Service.class);
+
+    private Models.Flat flat;
+    private Models.Inherited inherited;
+    private Models.Service nested;
+    private Map<String, Object> flatMap;
+    private Map<String, Object> inheritedMap;
+    private Map<String, Object> nestedMap;
+
+    @Setup
+    public void setup() throws Exception {
+        this.flat = Models.flat();
+        this.inherited = Models.inherited();
+        this.nested = Models.service();
+        this.flatMap = this.flatSerializer.serialize(this.flat);
+        this.inheritedMap = this.inheritedSerializer.serialize(this.inherited);
+        this.nestedMap = this.nestedSerializer.serialize(this.nested);
+    }
+
+    @Benchmark
+    public Map<String, Object> serializeFlat() throws Exception {
+        return this.flatSerializer.serialize(this.flat);
+    }
+
+    @Benchmark
+    public Models.Flat deserializeFlat() throws Exception {
+        return this.flatSerializer.deserialize(this.flatMap);
+    }
+
+    @Benchmark
+    public Map<String, Object> serializeInherited() throws Exception {
+        return this.inheritedSerializer.serialize(this.inherited);
+    }
+
+    @Benchmark
+    public Models.Inherited deserializeInherited() throws Exception {
+        return this.inheritedSerializer.deserialize(this.inheritedMap);
+    }
+
+    @Benchmark
+    public Map<String, Object> serializeNested() throws Exception {
+        return this.nestedSerializer.serialize(this.nested);
+    }
+
+    @Benchmark
+    public Models.Service deserializeNested() throws Exception {
+        return this.nestedSerializer.deserialize(this.nestedMap);
+    }
+}
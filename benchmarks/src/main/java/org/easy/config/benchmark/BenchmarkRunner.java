@@ -0,0 +1,37 @@
+package org.easy.config.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs every benchmark single threaded and then with one thread per core, with the GC profiler enabled. Results are
+ * written as JSON (jmh-1-threads.json, jmh-N-threads.json) so they can be compared between releases.
+ * <p>
+ * Build with {@code mvn -pl benchmarks -am package} and run {@code java -jar benchmarks/target/benchmarks.jar},
+ * optionally passing a regex to select benchmarks. The standard JMH command line is available through
+ * {@code java -cp benchmarks/target/benchmarks.jar org.openjdk.jmh.Main}
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String include = args.length == 0 ? BenchmarkRunner.class.getPackage().getName() + ".*" : args[0];
+        int cores = Runtime.getRuntime().availableProcessors();
+        int[] threadCounts = cores == 1 ? new int[]{1} : new int[]{1, cores};
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("jmh-" + threads + "-threads.json")
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
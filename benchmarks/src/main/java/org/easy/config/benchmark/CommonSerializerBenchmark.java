@@ -0,0 +1,48 @@
+package org.easy.config.benchmark;
+
+import org.easy.config.common.CommonJavaSerializers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommonSerializerBenchmark {
+
+    private LocalDateTime dateTime;
+    private Map<String, Object> dateTimeMap;
+    private String dateTimeText;
+
+    @Setup
+    public void setup() throws Exception {
+        this.dateTime = LocalDateTime.of(2024, 5, 17, 13, 45, 30, 125_000_000);
+        this.dateTimeMap = CommonJavaSerializers.DATE_TIME.serialize(this.dateTime);
+        this.dateTimeText = CommonJavaSerializers.ISO_DATE_TIME.serialize(this.dateTime);
+    }
+
+    @Benchmark
+    public Map<String, Object> serializeDateTime() throws Exception {
+        return CommonJavaSerializers.DATE_TIME.serialize(this.dateTime);
+    }
+
+    @Benchmark
+    public LocalDateTime deserializeDateTime() throws Exception {
+        return CommonJavaSerializers.DATE_TIME.deserialize(this.dateTimeMap);
+    }
+
+    @Benchmark
+    public String serializeIsoDateTime() throws Exception {
+        return CommonJavaSerializers.ISO_DATE_TIME.serialize(this.dateTime);
+    }
+
+    @Benchmark
+    public LocalDateTime deserializeIsoDateTime() throws Exception {
+        return CommonJavaSerializers.ISO_DATE_TIME.deserialize(this.dateTimeText);
+    }
+}
@@ -0,0 +1,46 @@
+package org.easy.config.benchmark;
+
+import org.easy.config.auto.AutoSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigListBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int size;
+
+    private final AutoSerializer<Models.RoutingTable> serializer = new AutoSerializer<>(Models.RoutingTable.class);
+    private final AutoSerializer<Models.RoutingTable> parallelSerializer = this.serializer.withParallelLists(1000);
+
+    private Models.RoutingTable table;
+    private Map<String, Object> tableMap;
+
+    @Setup
+    public void setup() throws Exception {
+        this.table = Models.routingTable(this.size);
+        this.tableMap = this.serializer.serialize(this.table);
+    }
+
+    @Benchmark
+    public Map<String, Object> serialize() throws Exception {
+        return this.serializer.serialize(this.table);
+    }
+
+    @Benchmark
+    public Models.RoutingTable deserialize() throws Exception {
+        return this.serializer.deserialize(this.tableMap);
+    }
+
+    @Benchmark
+    public Models.RoutingTable deserializeParallel() throws Exception {
+        return this.parallelSerializer.deserialize(this.tableMap);
+    }
+}
@@ -0,0 +1,88 @@
+package org.easy.config.benchmark;
+
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.json.Json;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+/**
+ * Prints the heap held by many tenant configs, loaded once as they are and once through
+ * {@link AutoSerializer#withCompaction()}. Each side is measured with a class histogram of the live heap, taken
+ * through the DiagnosticCommand MBean (the same data as {@code jcmd <pid> GC.class_histogram}).
+ * <p>
+ * Run with {@code java -cp benchmarks/target/benchmarks.jar org.easy.config.benchmark.FootprintReport [tenants]}
+ */
+public final class FootprintReport {
+
+    private static final int ROUTES = 20;
+    private static final int SHOWN_CLASSES = 12;
+
+    private FootprintReport() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int tenants = args.length == 0 ? 10_000 : Integer.parseInt(args[0]);
+        AutoSerializer<Models.Tenant> serializer = new AutoSerializer<>(Models.Tenant.class);
+        List<String> documents = new ArrayList<>(tenants);
+        for (int i = 0; i < tenants; i++) {
+            documents.add(Json.toJson(serializer.serialize(Models.tenant(i, ROUTES))));
+        }
+
+        Map<String, long[]> baseline = histogram();
+        List<Models.Tenant> plain = load(serializer, documents);
+        Map<String, long[]> plainHistogram = histogram();
+        report("As parsed", baseline, plainHistogram);
+        plain.clear();
+
+        baseline = histogram();
+        List<Models.Tenant> compact = load(serializer.withCompaction(), documents);
+        Map<String, long[]> compactHistogram = histogram();
+        report("Compacted", baseline, compactHistogram);
+        System.out.println("Loaded " + compact.size() + " tenants");
+    }
+
+    private static List<Models.Tenant> load(AutoSerializer<Models.Tenant> serializer, List<String> documents) throws Exception {
+        List<Models.Tenant> loaded = new ArrayList<>(documents.size());
+        for (String document : documents) {
+            loaded.add(serializer.deserialize((Map<String, Object>) Json.parse(document)));
+        }
+        return loaded;
+    }
+
+    private static void report(String title, Map<String, long[]> before, Map<String, long[]> after) {
+        List<Map.Entry<String, long[]>> growth = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<String, long[]> entry : after.entrySet()) {
+            long[] previous = before.getOrDefault(entry.getKey(), new long[2]);
+            long[] delta = {entry.getValue()[0] - previous[0], entry.getValue()[1] - previous[1]};
+            if (delta[1] > 0) {
+                growth.add(new AbstractMap.SimpleEntry<>(entry.getKey(), delta));
+                total += delta[1];
+            }
+        }
+        growth.sort((first, second) -> Long.compare(second.getValue()[1], first.getValue()[1]));
+        System.out.printf("%n%s: %,d bytes retained%n", title, total);
+        System.out.printf("%15s %15s  %s%n", "instances", "bytes", "class");
+        for (Map.Entry<String, long[]> entry : growth.subList(0, Math.min(SHOWN_CLASSES, growth.size()))) {
+            System.out.printf("%,15d %,15d  %s%n", entry.getValue()[0], entry.getValue()[1], entry.getKey());
+        }
+    }
+
+    private static Map<String, long[]> histogram() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.sun.management:type=DiagnosticCommand");
+        String output = (String) server.invoke(name, "gcClassHistogram", new Object[]{new String[0]}, new String[]{String[].class.getName()});
+        Map<String, long[]> histogram = new HashMap<>();
+        for (String line : output.split("\n")) {
+            String[] columns = line.trim().split("\\s+");
+            if (columns.length < 4 || !columns[0].endsWith(":")) {
+                continue;
+            }
+            histogram.put(columns[3], new long[]{Long.parseLong(columns[1]), Long.parseLong(columns[2])});
+        }
+        return histogram;
+    }
+}
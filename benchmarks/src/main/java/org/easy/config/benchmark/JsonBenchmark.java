@@ -0,0 +1,61 @@
+package org.easy.config.benchmark;
+
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.json.Json;
+import org.easy.config.json.JsonReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses and writes a routing table document. The {@code bytes} counter reports the parsed input, so bytes per second
+ * and, together with the GC profiler, allocated bytes per input byte can be read from the results
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private final AutoSerializer<Models.RoutingTable> serializer = new AutoSerializer<>(Models.RoutingTable.class);
+
+    private Object tableMap;
+    private ByteBuffer document;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Input {
+
+        public long bytes;
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        this.tableMap = this.serializer.serialize(Models.routingTable(this.size));
+        this.document = ByteBuffer.wrap(Json.toJson(this.tableMap).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public Object parse(Input input) throws Exception {
+        input.bytes += this.document.remaining();
+        return new JsonReader(this.document.duplicate()).readValue();
+    }
+
+    @Benchmark
+    public Models.RoutingTable load(Input input) throws Exception {
+        input.bytes += this.document.remaining();
+        return this.serializer.read(new JsonReader(this.document.duplicate()));
+    }
+
+    @Benchmark
+    public String write() {
+        return Json.toJson(this.tableMap);
+    }
+}
@@ -0,0 +1,194 @@
+package org.easy.config.benchmark;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Config shapes used by the benchmarks, mirroring the ones modelled by the tests of the core module
+ */
+public final class Models {
+
+    private Models() {
+    }
+
+    public static class Flat {
+
+        private final int id;
+        private final long size;
+        private final double ratio;
+        private final boolean enabled;
+        private final String name;
+
+        @ConfigConstructor
+        public Flat(int id, long size, double ratio, boolean enabled, String name) {
+            this.id = id;
+            this.size = size;
+            this.ratio = ratio;
+            this.enabled = enabled;
+            this.name = name;
+        }
+    }
+
+    public static class Base {
+
+        protected final String region;
+        protected final int priority;
+
+        protected Base(String region, int priority) {
+            this.region = region;
+            this.priority = priority;
+        }
+    }
+
+    public static class Inherited extends Base {
+
+        private final String name;
+        private final boolean enabled;
+
+        @ConfigConstructor
+        public Inherited(String name, boolean enabled, String region, int priority) {
+            super(region, priority);
+            this.name = name;
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Retry {
+
+        private final int attempts;
+        private final long backoff;
+
+        @ConfigConstructor
+        public Retry(int attempts, long backoff) {
+            this.attempts = attempts;
+            this.backoff = backoff;
+        }
+    }
+
+    public static class Endpoint {
+
+        private final String host;
+        private final int port;
+        private final Retry retry;
+
+        @ConfigConstructor
+        public Endpoint(String host, int port, Retry retry) {
+            this.host = host;
+            this.port = port;
+            this.retry = retry;
+        }
+    }
+
+    public static class Service {
+
+        private final String name;
+        private final Endpoint endpoint;
+
+        @ConfigConstructor
+        public Service(String name, Endpoint endpoint) {
+            this.name = name;
+            this.endpoint = endpoint;
+        }
+    }
+
+    public static class Route {
+
+        private final String path;
+        private final String target;
+        private final int weight;
+
+        @ConfigConstructor
+        public Route(String path, String target, int weight) {
+            this.path = path;
+            this.target = target;
+            this.weight = weight;
+        }
+    }
+
+    public static class RoutingTable {
+
+        @ConfigList(ofType = Route.class)
+        private final List<Route> routes;
+
+        @ConfigConstructor
+        public RoutingTable(List<Route> routes) {
+            this.routes = routes;
+        }
+    }
+
+    public static class Tenant {
+
+        private final String name;
+        private final String region;
+        private final String tier;
+        private final List<String> features;
+        @ConfigList(ofType = Route.class)
+        private final List<Route> routes;
+
+        @ConfigConstructor
+        public Tenant(String name, String region, String tier, List<String> features, List<Route> routes) {
+            this.name = name;
+            this.region = region;
+            this.tier = tier;
+            this.features = features;
+            this.routes = routes;
+        }
+    }
+
+    public static class Gateway {
+
+        @ConfigList(ofType = Endpoint.class)
+        private final List<Endpoint> endpoints;
+
+        @ConfigConstructor
+        public Gateway(List<Endpoint> endpoints) {
+            this.endpoints = endpoints;
+        }
+    }
+
+    public static Flat flat() {
+        return new Flat(1, 1024L, 0.75, true, "flat");
+    }
+
+    public static Inherited inherited() {
+        return new Inherited("inherited", true, "eu-west", 3);
+    }
+
+    public static Service service() {
+        return new Service("service", new Endpoint("localhost", 8080, new Retry(3, 250L)));
+    }
+
+    public static RoutingTable routingTable(int size) {
+        List<Route> routes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            routes.add(new Route("/route/" + i, "backend-" + (i % 16), i % 100));
+        }
+        return new RoutingTable(routes);
+    }
+
+    public static Tenant tenant(int id, int routes) {
+        String[] regions = {"eu-west", "eu-central", "us-east", "us-west"};
+        String[] tiers = {"free", "standard", "premium"};
+        List<String> features = new ArrayList<>();
+        for (int i = 0; i <= id % 4; i++) {
+            features.add("feature-" + i);
+        }
+        List<Route> routeList = new ArrayList<>(routes);
+        for (int i = 0; i < routes; i++) {
+            routeList.add(new Route("/route/" + (i % 8), "backend-" + (i % 16), i % 100));
+        }
+        return new Tenant("tenant-" + id, regions[id % regions.length], tiers[id % tiers.length], features, routeList);
+    }
+
+    public static Gateway gateway(int size) {
+        Retry retry = new Retry(3, 250L);
+        List<Endpoint> endpoints = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            endpoints.add(new Endpoint("host-" + i, 8080, retry));
+        }
+        return new Gateway(endpoints);
+    }
+}
@@ -0,0 +1,69 @@
+package org.easy.config.benchmark;
+
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.json.Json;
+import org.easy.config.json.JsonReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing and loading endpoints that share one retry policy, with the policy copied into every endpoint and
+ * with it written once and referenced
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReferenceBenchmark {
+
+    @Param({"5000"})
+    public int size;
+
+    private final AutoSerializer<Models.Gateway> copied = new AutoSerializer<>(Models.Gateway.class);
+    private final AutoSerializer<Models.Gateway> referenced = new AutoSerializer<Models.Gateway>(Models.Gateway.class).withReferences();
+
+    private Models.Gateway gateway;
+    private ByteBuffer copiedJson;
+    private ByteBuffer referencedJson;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Input {
+
+        public long bytes;
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        this.gateway = Models.gateway(this.size);
+        this.copiedJson = ByteBuffer.wrap(Json.toJson(this.copied.serialize(this.gateway)).getBytes(StandardCharsets.UTF_8));
+        this.referencedJson = ByteBuffer.wrap(Json.toJson(this.referenced.serialize(this.gateway)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public Object serializeCopied() throws Exception {
+        return this.copied.serialize(this.gateway);
+    }
+
+    @Benchmark
+    public Object serializeReferenced() throws Exception {
+        return this.referenced.serialize(this.gateway);
+    }
+
+    @Benchmark
+    public Models.Gateway loadCopied(Input input) throws Exception {
+        input.bytes += this.copiedJson.remaining();
+        return this.copied.read(new JsonReader(this.copiedJson.duplicate()));
+    }
+
+    @Benchmark
+    public Models.Gateway loadReferenced(Input input) throws Exception {
+        input.bytes += this.referencedJson.remaining();
+        return this.referenced.read(new JsonReader(this.referencedJson.duplicate()));
+    }
+}
@@ -0,0 +1,67 @@
+package org.easy.config.benchmark;
+
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.json.Json;
+import org.easy.config.json.JsonReader;
+import org.easy.config.snapshot.SnapshotReader;
+import org.easy.config.snapshot.SnapshotWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a routing table from JSON with reading it from a binary snapshot of the same tree
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private final AutoSerializer<Models.RoutingTable> serializer = new AutoSerializer<>(Models.RoutingTable.class);
+
+    private Object tableMap;
+    private ByteBuffer json;
+    private ByteBuffer snapshot;
+
+    @Setup
+    public void setup() throws Exception {
+        this.tableMap = this.serializer.serialize(Models.routingTable(this.size));
+        this.json = ByteBuffer.wrap(Json.toJson(this.tableMap).getBytes(StandardCharsets.UTF_8));
+        byte[] bytes = SnapshotWriter.toBytes(this.tableMap, new byte[32]);
+        this.snapshot = ByteBuffer.allocateDirect(bytes.length);
+        this.snapshot.put(bytes).flip();
+    }
+
+    @Benchmark
+    public Object parseJson() throws Exception {
+        return new JsonReader(this.json.duplicate()).readValue();
+    }
+
+    @Benchmark
+    public Object readSnapshot() throws Exception {
+        return new SnapshotReader(this.snapshot.duplicate()).readValue();
+    }
+
+    @Benchmark
+    public Models.RoutingTable loadJson() throws Exception {
+        return this.serializer.read(new JsonReader(this.json.duplicate()));
+    }
+
+    @Benchmark
+    public Models.RoutingTable loadSnapshot() throws Exception {
+        return this.serializer.read(new SnapshotReader(this.snapshot.duplicate()));
+    }
+
+    @Benchmark
+    public byte[] writeSnapshot() {
+        return SnapshotWriter.toBytes(this.tableMap, new byte[32]);
+    }
+}
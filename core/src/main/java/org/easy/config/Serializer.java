@@ -0,0 +1,90 @@
+package org.easy.config;
+
+import org.easy.config.stream.MapTokenReader;
+import org.easy.config.stream.TokenReader;
+
+import java.util.Map;
+
+public interface Serializer<T, E> {
+
+    E serialize(T value) throws Exception;
+
+    T deserialize(E type) throws Exception;
+
+    Class<?> ofType();
+
+    interface KeyValue<T> extends Serializer<T, Map<String, Object>> {
+
+    }
+
+    interface Text<T> extends Serializer<T, String> {
+
+    }
+
+    /**
+     * A serializer that binds directly from a {@link TokenReader}, without the whole config being parsed into maps
+     * first. Maps are still accepted by walking them as tokens
+     */
+    interface Streaming<T> extends KeyValue<T> {
+
+        /**
+         * Reads the next value of the reader
+         *
+         * @param reader the reader, positioned before the value
+         * @return the read value
+         * @throws Exception if the value cannot be read
+         */
+        T read(TokenReader reader) throws Exception;
+
+        @Override
+        default T deserialize(Map<String, Object> type) throws Exception {
+            return this.read(new MapTokenReader(type));
+        }
+
+        /**
+         * Adapts a map based serializer, which builds the map of each value before deserializing it
+         *
+         * @param serializer the serializer to adapt
+         * @param <T> the type of value
+         * @return the adapted serializer
+         */
+        static <T> Streaming<T> of(KeyValue<T> serializer) {
+            if (serializer instanceof Streaming) {
+                return (Streaming<T>) serializer;
+            }
+            return new Streaming<T>() {
+                @Override
+                public T read(TokenReader reader) throws Exception {
+                    Object value = reader.readValue();
+                    if (!(value instanceof Map)) {
+                        throw new IllegalArgumentException("Expected an object for " + serializer.ofType().getSimpleName());
+                    }
+                    return serializer.deserialize((Map<String, Object>) value);
+                }
+
+                @Override
+                public T deserialize(Map<String, Object> type) throws Exception {
+                    return serializer.deserialize(type);
+                }
+
+                @Override
+                public Map<String, Object> serialize(T value) throws Exception {
+                    return serializer.serialize(value);
+                }
+
+                @Override
+                public Class<?> ofType() {
+                    return serializer.ofType();
+                }
+            };
+        }
+    }
+
+    /**
+     * Marks a serializer that keeps state between calls. Such serializers are created for every use instead of being
+     * shared between threads
+     */
+    interface Stateful {
+
+    }
+}
@@ -0,0 +1,1081 @@
+package org.easy.config.auto;
+
+import org.easy.config.Serializer;
+import org.easy.config.jfr.ConfigEvents;
+import org.easy.config.metrics.ConfigMetrics;
+import org.easy.config.stream.Token;
+import org.easy.config.stream.TokenReader;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+public class AutoSerializer<T> implements Serializer.Streaming<T> {
+
+    public static final String ID_KEY = "$id";
+    public static final String REFERENCE_KEY = "$ref";
+    private static final int REPORTED_FAILURES = 16;
+
+    private final Class<?> ofType;
+    private final Supplier<Collection<Serializer<?, ?>>> serializers;
+    private volatile SerializerRegistry registry;
+    private final int parallelThreshold;
+    private final ForkJoinPool pool;
+    private final Compactor compactor;
+    private final ConfigMetrics metrics;
+    private final boolean references;
+
+    public AutoSerializer(Class<?> ofType) {
+        this(ofType, Collections.emptyList());
+    }
+
+    public AutoSerializer(Class<?> ofType, Collection<Serializer<?, ?>> serializer) {
+        this(ofType, () -> serializer);
+    }
+
+    public AutoSerializer(Class<?> ofType, Supplier<Collection<Serializer<?, ?>>> serializer) {
+        this(ofType, serializer, null, Integer.MAX_VALUE, null, null, ConfigMetrics.NONE, false);
+    }
+
+    public AutoSerializer(Class<?> ofType, SerializerRegistry registry) {
+        this(ofType, registry::serializers, registry, Integer.MAX_VALUE, null, null, ConfigMetrics.NONE, false);
+    }
+
+    private AutoSerializer(Class<?> ofType, Supplier<Collection<Serializer<?, ?>>> serializers, SerializerRegistry registry, int parallelThreshold, ForkJoinPool pool, Compactor compactor, ConfigMetrics metrics, boolean references) {
+        this.ofType = ofType;
+        this.serializers = serializers;
+        this.registry = registry;
+        this.parallelThreshold = parallelThreshold;
+        this.pool = pool;
+        this.compactor = compactor;
+        this.metrics = metrics;
+        this.references = references;
+    }
+
+    public AutoSerializer<T> withParallelLists(int threshold) {
+        return this.withParallelLists(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a serializer that splits {@link org.easy.config.auto.annotations.ConfigList} lists of at least the
+     * threshold size across the pool, including lists of nested configs. Serializers used by the elements must be
+     * thread safe
+     *
+     * @param threshold the smallest list size deserialized in parallel
+     * @param pool the pool to deserialize on
+     * @return the new serializer
+     */
+    public AutoSerializer<T> withParallelLists(int threshold, ForkJoinPool pool) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be at least 1");
+        }
+        return new AutoSerializer<>(this.ofType, this.serializers, this.registry, threshold, pool, this.compactor, this.metrics, this.references);
+    }
+
+    public AutoSerializer<T> withCompaction() {
+        return this.withCompaction(new Compactor());
+    }
+
+    /**
+     * Creates a serializer that stores values in their compact form, see {@link Compactor}. Nested configs use the
+     * same compactor
+     *
+     * @param compactor the compactor, which may be shared with other serializers
+     * @return the new serializer
+     */
+    public AutoSerializer<T> withCompaction(Compactor compactor) {
+        return new AutoSerializer<>(this.ofType, this.serializers, this.registry, this.parallelThreshold, this.pool, compactor, this.metrics, this.references);
+    }
+
+    /**
+     * Creates a serializer that reports timings, lookups, constructions and errors of itself, its nested configs and
+     * the serializers it calls
+     *
+     * @param metrics the metrics to report to
+     * @return the new serializer
+     */
+    public AutoSerializer<T> withMetrics(ConfigMetrics metrics) {
+        SerializerRegistry registry = this.registry == null ? null : this.registry.withMetrics(metrics);
+        return new AutoSerializer<>(this.ofType, this.serializers, registry, this.parallelThreshold, this.pool, this.compactor, metrics, this.references);
+    }
+
+    /**
+     * Creates a serializer that writes a config shared by several fields or list elements once. Later occurrences of
+     * the same instance are written as {@code {"$ref": id}} and the first gains {@code "$id": id}, deserializing
+     * resolves each reference back to that single instance. A config that contains itself cannot be created through
+     * its constructor, so serializing one fails instead of overflowing the stack.
+     * <p>
+     * References are resolved in document order, so lists are not split across threads and
+     * {@link #update(Object, Map, Map)} rebuilds the whole config when the map changes. A {@link Lazy} field is written
+     * and read as a document of its own, so references never cross into or out of it and a config shared with a lazy
+     * field is written, and later created, once on each side
+     *
+     * @return the new serializer
+     */
+    public AutoSerializer<T> withReferences() {
+        return new AutoSerializer<>(this.ofType, this.serializers, this.registry, this.parallelThreshold, this.pool, this.compactor, this.metrics, true);
+    }
+
+    /**
+     * Prepares the config classes against the common serializers, see {@link #prepare(SerializerRegistry, Collection)}.
+     * The serializer lookups are kept by {@link PrepareReport#registry()}, which should be passed to the serializers
+     * of these classes
+     *
+     * @param types the config classes
+     * @return the timings and issues of every prepared class
+     */
+    public static PrepareReport prepare(Class<?>... types) {
+        return prepare(SerializerRegistry.withCommon(Collections.emptyList()), Arrays.asList(types));
+    }
+
+    /**
+     * Builds the reflection models of the config classes, the serializers they reference and the models of their
+     * nested configs up front and in parallel, so the first deserialize of each does not pay for it. Misconfigurations
+     * that would otherwise only fail that first deserialize are collected into the report. Serializer lookups are cached
+     * by the registry, so only serializers created with {@code new AutoSerializer<>(type, registry)} reuse them
+     *
+     * @param registry the serializers the configs will be deserialized with
+     * @param types the config classes
+     * @return the timings and issues of every prepared class
+     */
+    public static PrepareReport prepare(SerializerRegistry registry, Collection<Class<?>> types) {
+        return Preparation.prepare(registry, types, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Prepares the config classes of the package against the common serializers, see
+     * {@link #prepare(SerializerRegistry, String)} and {@link PrepareReport#registry()}
+     *
+     * @param packageName the package to scan, such as {@code com.example.config}
+     * @return the timings and issues of every prepared class
+     * @throws IOException if the class path cannot be read
+     */
+    public static PrepareReport prepare(String packageName) throws IOException {
+        return prepare(SerializerRegistry.withCommon(Collections.emptyList()), packageName);
+    }
+
+    /**
+     * Prepares every class of the package and its sub packages that has a constructor annotated with
+     * {@link org.easy.config.auto.annotations.ConfigConstructor}, see {@link #prepare(SerializerRegistry, Collection)}
+     *
+     * @param registry the serializers the configs will be deserialized with
+     * @param packageName the package to scan, such as {@code com.example.config}
+     * @return the timings and issues of every prepared class
+     * @throws IOException if the class path cannot be read
+     */
+    public static PrepareReport prepare(SerializerRegistry registry, String packageName) throws IOException {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = AutoSerializer.class.getClassLoader();
+        }
+        return prepare(registry, Preparation.scan(packageName, loader));
+    }
+
+    <V> AutoSerializer<V> nested(Class<?> type, SerializerRegistry registry) {
+        return new AutoSerializer<>(type, registry::serializers, registry, this.parallelThreshold, this.pool, this.compactor, this.metrics, this.references);
+    }
+
+    private SerializerRegistry registry() {
+        SerializerRegistry registry = this.registry;
+        if (registry == null) {
+            registry = SerializerRegistry.withCommon(this.serializers.get()).withMetrics(this.metrics);
+            this.registry = registry;
+        }
+        return registry;
+    }
+
+    @Override
+    public Class<?> ofType() {
+        return this.ofType;
+    }
+
+    @Override
+    public Map<String, Object> serialize(T value) throws Exception {
+        return this.serialize(value, new SerializationContext(this));
+    }
+
+    private Map<String, Object> serialize(Object value, SerializationContext context) throws Exception {
+        if (!this.references) {
+            return this.serializeRecorded(value, context);
+        }
+        References references = context.references();
+        Map<String, Object> reference = references.referenceTo(value);
+        if (reference != null) {
+            return reference;
+        }
+        Map<String, Object> map = null;
+        references.enter(value);
+        try {
+            map = this.serializeRecorded(value, context);
+            return map;
+        } finally {
+            references.exit(value, map);
+        }
+    }
+
+    private Map<String, Object> serializeRecorded(Object value, SerializationContext context) throws Exception {
+        Object event = ConfigEvents.beginSerialize();
+        long start = this.metrics == ConfigMetrics.NONE ? 0 : System.nanoTime();
+        Map<String, Object> map = null;
+        Exception failure = null;
+        try {
+            map = values((T) value, context);
+            if (this.metrics != ConfigMetrics.NONE) {
+                this.metrics.serialized(this.ofType, System.nanoTime() - start);
+            }
+            return map;
+        } catch (Exception e) {
+            failure = e;
+            this.metrics.failed(this.ofType, e);
+            throw e;
+        } finally {
+            ConfigEvents.endSerialize(event, this.ofType, map == null ? 0 : map.size(), failure);
+        }
+    }
+
+    private boolean isAcceptable(Object v) {
+        if (toPrimitive(v.getClass()).isPrimitive()) {
+            return true;
+        }
+        if (v instanceof String) {
+            return true;
+        }
+        if (v instanceof Collection<?>) {
+            return ((Collection<?>) v).stream().allMatch(this::isAcceptable);
+        }
+        return false;
+    }
+
+    @Override
+    public T deserialize(Map<String, Object> map) throws Exception {
+        return this.deserialize(map, new SerializationContext(this));
+    }
+
+    private T deserialize(Map<String, Object> map, SerializationContext context) throws Exception {
+        Object event = ConfigEvents.beginDeserialize();
+        long start = this.metrics == ConfigMetrics.NONE ? 0 : System.nanoTime();
+        Exception failure = null;
+        try {
+            return this.deserialized(this.create(map, context), start);
+        } catch (Exception e) {
+            failure = e;
+            this.metrics.failed(this.ofType, e);
+            throw e;
+        } finally {
+            ConfigEvents.endDeserialize(event, this.ofType, map == null ? 0 : map.size(), failure);
+        }
+    }
+
+    private T create(Map<String, Object> map, SerializationContext context) throws Exception {
+        if (map == null) {
+            throw new IllegalArgumentException("Cannot deserialize 'null'");
+        }
+        if (!this.references) {
+            return this.build(map, context);
+        }
+        References references = context.references();
+        Object reference = map.get(REFERENCE_KEY);
+        if (reference != null) {
+            return (T) references.resolve(reference, this.ofType);
+        }
+        T value = this.build(map, context);
+        Object id = map.get(ID_KEY);
+        if (id != null) {
+            references.register(id, value);
+        }
+        return value;
+    }
+
+    private T build(Map<String, Object> map, SerializationContext context) throws Exception {
+        ClassModel model = ClassModel.of(this.ofType);
+        SerializerRegistry registry = this.registry().scopedTo(this.ofType);
+        GeneratedSerializer<?> generated = model.generated();
+        if (generated != null) {
+            return (T) generated.deserialize(map, this, model, registry, context);
+        }
+        ConstructorAccessor constructor = model.constructor();
+
+        Object[] values = bindParameters(model, map, context.acquire(model.fields().size()));
+        try {
+            convertParameters(model, values, registry, context);
+            return (T) this.construct(null, constructor, values);
+        } finally {
+            context.release(values);
+        }
+    }
+
+    /**
+     * Calls the {@link org.easy.config.auto.annotations.ConfigConstructor} through the generated serializer when there
+     * is one, otherwise reflectively
+     */
+    Object construct(GeneratedSerializer<?> generated, ConstructorAccessor constructor, Object[] values) throws Exception {
+        this.metrics.constructed(this.ofType, generated != null);
+        Object event = ConfigEvents.beginConstruct();
+        try {
+            return generated != null ? generated.create(values) : constructor.newInstance(values);
+        } finally {
+            ConfigEvents.endConstruct(event, this.ofType, generated != null);
+        }
+    }
+
+    private T deserialized(T value, long start) {
+        if (this.metrics != ConfigMetrics.NONE) {
+            this.metrics.deserialized(this.ofType, System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    @Override
+    public T read(TokenReader reader) throws Exception {
+        return this.read(reader, new SerializationContext(this));
+    }
+
+    private T read(TokenReader reader, SerializationContext context) throws Exception {
+        Object event = ConfigEvents.beginDeserialize();
+        long start = this.metrics == ConfigMetrics.NONE ? 0 : System.nanoTime();
+        Exception failure = null;
+        try {
+            return this.deserialized(this.readObject(reader, context), start);
+        } catch (Exception e) {
+            failure = e;
+            this.metrics.failed(this.ofType, e);
+            throw e;
+        } finally {
+            ConfigEvents.endDeserialize(event, this.ofType, -1, failure);
+        }
+    }
+
+    private T readObject(TokenReader reader, SerializationContext context) throws Exception {
+        Token token = reader.next();
+        if (token == Token.SCALAR && reader.scalar() == null) {
+            throw new IllegalArgumentException("Cannot deserialize 'null'");
+        }
+        if (token != Token.BEGIN_OBJECT) {
+            throw new IllegalArgumentException("Expected an object for " + this.ofType.getSimpleName() + " but found " + token);
+        }
+        ClassModel model = ClassModel.of(this.ofType);
+        SerializerRegistry registry = this.registry().scopedTo(this.ofType);
+        GeneratedSerializer<T> generated = (GeneratedSerializer<T>) model.generated();
+        ConstructorAccessor constructor = generated == null ? model.constructor() : null;
+
+        Object[] values = context.acquire(model.fields().size());
+        Object id = null;
+        Object reference = null;
+        try {
+            while ((token = reader.next()) == Token.KEY) {
+                String key = reader.key();
+                if (this.references && key.equals(ID_KEY)) {
+                    id = reader.readValue();
+                    continue;
+                }
+                if (this.references && key.equals(REFERENCE_KEY)) {
+                    reference = reader.readValue();
+                    continue;
+                }
+                int[] slots = model.slotsOf(key);
+                if (slots == null) {
+                    reader.skipValue();
+                    continue;
+                }
+                boolean exact = model.isExactSlot(key);
+                if (slots.length == 1) {
+                    int slot = slots[0];
+                    if (values[slot] != null && !exact) {
+                        reader.skipValue();
+                        continue;
+                    }
+                    values[slot] = readField(model.fields().get(slot), reader, registry, context);
+                    continue;
+                }
+                //shadowed fields may differ in type, so the raw value is converted per field later
+                Object value = reader.readValue();
+                for (int slot : slots) {
+                    if (values[slot] == null || exact) {
+                        values[slot] = value;
+                    }
+                }
+            }
+            if (token != Token.END_OBJECT) {
+                throw new IllegalArgumentException("Expected the end of " + this.ofType.getSimpleName() + " but found " + token);
+            }
+            if (reference != null) {
+                return (T) context.references().resolve(reference, this.ofType);
+            }
+            convertParameters(model, values, registry, context);
+            T value = (T) this.construct(generated, constructor, values);
+            if (id != null) {
+                context.references().register(id, value);
+            }
+            return value;
+        } finally {
+            context.release(values);
+        }
+    }
+
+    private Object readField(ClassModel.FieldModel field, TokenReader reader, SerializerRegistry registry, SerializationContext context) throws Exception {
+        Token token = reader.peek();
+        if (token == Token.BEGIN_OBJECT) {
+            Serializer<?, ?> serializer = field.serializer();
+            if (serializer == null && field.autoType() != null) {
+                serializer = context.serializer(field.autoType(), registry);
+            }
+            if (serializer == null && isAutoSerializable(field.type())) {
+                serializer = context.serializer(field.type(), registry);
+            }
+            if (serializer == null) {
+                serializer = registry.find(field.type()).orElse(null);
+            }
+            if (serializer instanceof AutoSerializer) {
+                return ((AutoSerializer<?>) serializer).read(reader, context);
+            }
+            if (serializer instanceof Serializer.Streaming) {
+                return ((Serializer.Streaming<?>) serializer).read(reader);
+            }
+            return reader.readValue();
+        }
+        if (token == Token.BEGIN_ARRAY && field.lazyType() == null && PrimitiveList.isPrimitiveArray(field.type())) {
+            return PrimitiveList.read(reader, field.type().getComponentType());
+        }
+        if (token == Token.BEGIN_ARRAY && field.lazyType() == null && field.listType() != null && isAutoSerializable(field.listType())) {
+            reader.next();
+            AutoSerializer<?> elementSerializer = context.serializer(field.listType(), registry);
+            List<Object> list = new ArrayList<>();
+            while (reader.peek() != Token.END_ARRAY) {
+                list.add(reader.peek() == Token.BEGIN_OBJECT ? elementSerializer.read(reader, context) : reader.readValue());
+            }
+            reader.next();
+            return list;
+        }
+        return reader.readValue();
+    }
+
+    private Class<?> toPrimitive(Class<?> type) {
+        if (type.isPrimitive()) {
+            return type;
+        }
+        if (type == Boolean.class) {
+            return boolean.class;
+        }
+        if (type == Integer.class) {
+            return int.class;
+        }
+        if (type == Double.class) {
+            return double.class;
+        }
+        if (type == Float.class) {
+            return float.class;
+        }
+        if (type == Long.class) {
+            return long.class;
+        }
+        if (type == Short.class) {
+            return short.class;
+        }
+        if (type == Byte.class) {
+            return byte.class;
+        }
+        if (type == Character.class) {
+            return char.class;
+        }
+        return type;
+    }
+
+    /**
+     * Checks the map against this config class without creating it. Every problem is collected instead of stopping at
+     * the first, and nothing is thrown unless a serializer itself fails unexpectedly
+     *
+     * @param map the map to check
+     * @return the report, valid if {@link #deserialize(Map)} would accept the map
+     */
+    public ValidationReport validate(Map<String, Object> map) {
+        ValidationReport report = new ValidationReport();
+        if (map == null) {
+            report.add(null, ValidationError.Code.MISSING, this.ofType, null);
+            return report;
+        }
+        this.validate(map, null, report);
+        return report;
+    }
+
+    private void validate(Map<String, Object> map, ValidationError.Path path, ValidationReport report) {
+        ClassModel model = ClassModel.of(this.ofType);
+        if (!model.isAutoSerializable()) {
+            report.add(path, ValidationError.Code.UNSUPPORTED_TYPE, this.ofType, map);
+            return;
+        }
+        if (this.references && map.containsKey(REFERENCE_KEY)) {
+            return;
+        }
+        SerializerRegistry registry = this.registry().scopedTo(this.ofType);
+        Object[] values = bindParameters(model, map);
+        List<ClassModel.FieldModel> fields = model.fields();
+        for (int i = 0; i < values.length; i++) {
+            ClassModel.FieldModel field = fields.get(i);
+            Class<?> type = field.lazyType() == null ? field.type() : field.lazyType();
+            this.validateValue(field, type, values[i], ValidationError.Path.of(path, field.name()), report, registry);
+        }
+    }
+
+    private void validateValue(ClassModel.FieldModel field, Class<?> type, Object value, ValidationError.Path path, ValidationReport report, SerializerRegistry registry) {
+        if (value == null) {
+            if (!field.isOptional()) {
+                report.add(path, ValidationError.Code.MISSING, type, null);
+            }
+            return;
+        }
+        if (value instanceof Lazy) {
+            return;
+        }
+        NumberCoercion coercion = field.coercion();
+        if (coercion != null && field.serializerType() == null) {
+            Object coerced = coercion.accepts(value) ? coercion.coerce(value) : NumberCoercion.MISMATCH;
+            if (coerced == NumberCoercion.MISMATCH) {
+                report.add(path, ValidationError.Code.TYPE_MISMATCH, type, value);
+            } else if (coerced == NumberCoercion.OUT_OF_RANGE) {
+                report.add(path, ValidationError.Code.OUT_OF_RANGE, type, value);
+            }
+            return;
+        }
+        if (value instanceof Collection && this.validateCollection(field, type, (Collection<?>) value, path, report, registry)) {
+            return;
+        }
+        boolean isInstance = (type.isInstance(value) || this.toPrimitive(type).isInstance(value));
+        if (isInstance || this.toPrimitive(type).equals(this.toPrimitive(value.getClass()))) {
+            return;
+        }
+        Serializer<?, ?> serializer = field.serializer();
+        if (serializer == null) {
+            Class<?> autoType = field.autoType() != null ? field.autoType() : (isAutoSerializable(type) ? type : null);
+            if (autoType != null) {
+                if (value instanceof Map) {
+                    this.nested(autoType, registry).validate((Map<String, Object>) value, path, report);
+                } else {
+                    report.add(path, ValidationError.Code.TYPE_MISMATCH, autoType, value);
+                }
+                return;
+            }
+            serializer = findSerializer(type, value, registry).orElse(null);
+        }
+        if (serializer == null) {
+            report.add(path, isAcceptable(value) ? ValidationError.Code.TYPE_MISMATCH : ValidationError.Code.UNSUPPORTED_TYPE, type, value);
+            return;
+        }
+        try {
+            deserialize(value, serializer);
+        } catch (Exception e) {
+            report.add(path, ValidationError.Code.INVALID_VALUE, type, value, e);
+        }
+    }
+
+    private static boolean isCharacter(Class<?> type, Object value) {
+        return type == char.class && value instanceof String && ((String) value).length() == 1;
+    }
+
+    private boolean validateCollection(ClassModel.FieldModel field, Class<?> type, Collection<?> values, ValidationError.Path path, ValidationReport report, SerializerRegistry registry) {
+        Class<?> listType = field.listType();
+        Class<?> primitiveType = PrimitiveList.isPrimitiveArray(type) ? type.getComponentType() : null;
+        if (primitiveType == null && listType != null && listType.isPrimitive() && type.isAssignableFrom(PrimitiveList.class)) {
+            primitiveType = listType;
+        }
+        if (primitiveType != null) {
+            NumberCoercion coercion = NumberCoercion.of(primitiveType, false);
+            int index = 0;
+            for (Object element : values) {
+                Object coerced = coercion != null && coercion.accepts(element) ? coercion.coerce(element) : element;
+                if (coerced == NumberCoercion.OUT_OF_RANGE) {
+                    report.add(ValidationError.Path.of(path, index), ValidationError.Code.OUT_OF_RANGE, primitiveType, element);
+                } else if (coerced == null || !this.toPrimitive(coerced.getClass()).equals(primitiveType) && !isCharacter(primitiveType, coerced)) {
+                    report.add(ValidationError.Path.of(path, index), ValidationError.Code.TYPE_MISMATCH, primitiveType, element);
+                }
+                index++;
+            }
+            return true;
+        }
+        if (values.isEmpty() || !(values.iterator().next() instanceof Map)) {
+            return false;
+        }
+        if (listType == null) {
+            report.add(path, ValidationError.Code.UNSUPPORTED_TYPE, type, values);
+            return true;
+        }
+        AutoSerializer<?> elementSerializer = this.nested(listType, registry);
+        int index = 0;
+        for (Object element : values) {
+            ValidationError.Path elementPath = ValidationError.Path.of(path, index++);
+            if (element instanceof Map) {
+                elementSerializer.validate((Map<String, Object>) element, elementPath, report);
+            } else {
+                report.add(elementPath, ValidationError.Code.TYPE_MISMATCH, listType, element);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deserializes a changed map, reusing the objects of the previous value whose entries did not change. Nested
+     * configs and {@link org.easy.config.auto.annotations.ConfigList} elements are only rebuilt when their own entries
+     * differ, so the previous value should be treated as immutable
+     *
+     * @param previous the value deserialized from the previous map
+     * @param previousMap the map the previous value was deserialized from
+     * @param map the new map
+     * @return the previous value if nothing changed, otherwise a new value sharing the unchanged parts
+     * @throws Exception if the new map cannot be deserialized
+     */
+    public T update(T previous, Map<String, Object> previousMap, Map<String, Object> map) throws Exception {
+        return this.update(previous, previousMap, map, new SerializationContext(this));
+    }
+
+    private T update(Object previous, Map<String, Object> previousMap, Map<String, Object> map, SerializationContext context) throws Exception {
+        Object event = ConfigEvents.beginDeserialize();
+        long start = this.metrics == ConfigMetrics.NONE ? 0 : System.nanoTime();
+        Exception failure = null;
+        try {
+            return this.deserialized(this.updateObject((T) previous, previousMap, map, context), start);
+        } catch (Exception e) {
+            failure = e;
+            this.metrics.failed(this.ofType, e);
+            throw e;
+        } finally {
+            ConfigEvents.endDeserialize(event, this.ofType, map == null ? 0 : map.size(), failure);
+        }
+    }
+
+    private T updateObject(T previous, Map<String, Object> previousMap, Map<String, Object> map, SerializationContext context) throws Exception {
+        if (previous == null || previousMap == null) {
+            return create(map, context);
+        }
+        if (map == null) {
+            throw new IllegalArgumentException("Cannot deserialize 'null'");
+        }
+        if (previousMap.equals(map)) {
+            return previous;
+        }
+        if (this.references) {
+            return create(map, context);
+        }
+        ClassModel model = ClassModel.of(this.ofType);
+        SerializerRegistry registry = this.registry().scopedTo(this.ofType);
+        GeneratedSerializer<T> generated = (GeneratedSerializer<T>) model.generated();
+        ConstructorAccessor constructor = generated == null ? model.constructor() : null;
+
+        Object[] values = bindParameters(model, map);
+        Object[] previousValues = bindParameters(model, previousMap);
+        Object[] current = readFields(model, previous);
+        List<ClassModel.FieldModel> fields = model.fields();
+        for (int i = 0; i < values.length; i++) {
+            if (Objects.equals(values[i], previousValues[i])) {
+                values[i] = current[i];
+                continue;
+            }
+            Object updated = updateField(fields.get(i), current[i], previousValues[i], values[i], registry, context);
+            if (updated != null) {
+                values[i] = updated;
+            }
+        }
+        convertParameters(model, values, registry, context);
+        return (T) this.construct(generated, constructor, values);
+    }
+
+    private Object updateField(ClassModel.FieldModel field, Object current, Object previousValue, Object value, SerializerRegistry registry, SerializationContext context) throws Exception {
+        if (current == null || field.serializerType() != null) {
+            return null;
+        }
+        if (previousValue instanceof Map && value instanceof Map) {
+            Class<?> type = field.autoType() == null ? field.type() : field.autoType();
+            if (!isAutoSerializable(type) || !type.isInstance(current)) {
+                return null;
+            }
+            return context.serializer(type, registry).update(current, (Map<String, Object>) previousValue, (Map<String, Object>) value, context);
+        }
+        Class<?> listType = field.listType();
+        if (listType == null || !(previousValue instanceof List) || !(value instanceof List) || !(current instanceof List) || !isAutoSerializable(listType)) {
+            return null;
+        }
+        List<?> previousList = (List<?>) previousValue;
+        List<?> currentList = (List<?>) current;
+        if (previousList.size() != currentList.size()) {
+            return null;
+        }
+        AutoSerializer<Object> elementSerializer = context.serializer(listType, registry);
+        List<?> list = (List<?>) value;
+        List<Object> updated = new ArrayList<>(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            Object element = list.get(i);
+            Object previousElement = i < previousList.size() ? previousList.get(i) : null;
+            if (previousElement != null && previousElement.equals(element)) {
+                updated.add(currentList.get(i));
+            } else if (previousElement instanceof Map && element instanceof Map && listType.isInstance(currentList.get(i))) {
+                updated.add(elementSerializer.update(currentList.get(i), (Map<String, Object>) previousElement, (Map<String, Object>) element, context));
+            } else if (element instanceof Map) {
+                updated.add(elementSerializer.deserialize((Map<String, Object>) element, context));
+            } else {
+                updated.add(element);
+            }
+        }
+        return updated;
+    }
+
+    private Object[] bindParameters(ClassModel model, Map<String, Object> map) {
+        return bindParameters(model, map, new Object[model.fields().size()]);
+    }
+
+    Object[] bindParameters(ClassModel model, Map<String, Object> map, Object[] ret) {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            String key = entry.getKey();
+            if (key == null) {
+                continue;
+            }
+            int[] slots = model.slotsOf(key);
+            if (slots == null) {
+                continue;
+            }
+            boolean exact = model.isExactSlot(key);
+            for (int slot : slots) {
+                if (ret[slot] == null || exact) {
+                    ret[slot] = entry.getValue();
+                }
+            }
+        }
+        return ret;
+    }
+
+    Object[] convertParameters(ClassModel model, Object[] ret, SerializerRegistry registry, SerializationContext context) throws Exception {
+        List<ClassModel.FieldModel> fields = model.fields();
+        boolean timed = this.metrics != ConfigMetrics.NONE;
+        for (int i = 0; i < ret.length; i++) {
+            ClassModel.FieldModel field = fields.get(i);
+            Object value = ret[i];
+            if (value == null) {
+                if (field.isOptional()) {
+                    continue;
+                }
+                throw new IllegalArgumentException("No parameter of " + field.name());
+            }
+            if (field.lazyType() == null) {
+                long start = timed ? System.nanoTime() : 0;
+                value = compact(field.type(), convertValue(field, field.type(), value, registry, context));
+                if (timed) {
+                    this.metrics.fieldDeserialized(model.type(), field.name(), System.nanoTime() - start);
+                }
+            } else if (!(value instanceof Lazy)) {
+                Object raw = compact(Object.class, value);
+                value = Lazy.of(raw, () -> compact(field.lazyType(), convertValue(field, field.lazyType(), raw, registry, new SerializationContext(this))));
+            }
+            ret[i] = value;
+        }
+        return ret;
+    }
+
+    private List<Object> deserializeAll(Collection<?> collection, SerializationContext context) {
+        Object[] elements = collection.toArray();
+        Object[] results = new Object[elements.length];
+        Map<Integer, Exception> failures;
+        if (this.pool == null || this.references || elements.length < this.parallelThreshold) {
+            failures = new TreeMap<>();
+            this.deserializeRange(elements, results, 0, elements.length, failures, true, context);
+        } else {
+            failures = new ConcurrentSkipListMap<>();
+            int chunk = Math.max(1, elements.length / (this.pool.getParallelism() * 4));
+            this.pool.invoke(new ElementTask(this, elements, results, 0, elements.length, chunk, failures));
+        }
+        if (!failures.isEmpty()) {
+            throw failure(failures, elements.length);
+        }
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+    private void deserializeRange(Object[] elements, Object[] results, int from, int to, Map<Integer, Exception> failures, boolean stopOnFailure, SerializationContext context) {
+        for (int i = from; i < to; i++) {
+            Object element = elements[i];
+            try {
+                if (!(element instanceof Map)) {
+                    String name = element == null ? "null" : element.getClass().getSimpleName();
+                    throw new IllegalArgumentException("Expected a map but found " + name);
+                }
+                results[i] = this.deserialize((Map<String, Object>) element, context);
+            } catch (Exception e) {
+                failures.put(i, e);
+                if (stopOnFailure) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private IllegalArgumentException failure(Map<Integer, Exception> failures, int size) {
+        Map.Entry<Integer, Exception> first = failures.entrySet().iterator().next();
+        IllegalArgumentException exception = new IllegalArgumentException("Cannot deserialize " + failures.size() + " of " + size + " elements of " + this.ofType.getSimpleName() + ", first at index " + first.getKey() + ": " + first.getValue().getMessage());
+        failures.entrySet().stream().limit(REPORTED_FAILURES).forEach(entry -> exception.addSuppressed(new IllegalArgumentException("Element " + entry.getKey(), entry.getValue())));
+        return exception;
+    }
+
+    private Object compact(Class<?> type, Object value) {
+        if (this.compactor == null || value == null) {
+            return value;
+        }
+        Object compacted = this.compactor.compact(value);
+        return compacted == value || type.isInstance(compacted) ? compacted : value;
+    }
+
+    private Object convertValue(ClassModel.FieldModel field, Class<?> type, Object value, SerializerRegistry registry, SerializationContext context) throws Exception {
+        if (value instanceof Collection) {
+            if (PrimitiveList.isPrimitiveArray(type)) {
+                return PrimitiveList.toArray(type.getComponentType(), (Collection<?>) value);
+            }
+            Class<?> primitiveType = field.listType();
+            if (primitiveType != null && primitiveType.isPrimitive() && type.isAssignableFrom(PrimitiveList.class)) {
+                return PrimitiveList.of(PrimitiveList.toArray(primitiveType, (Collection<?>) value));
+            }
+
+            Collection<?> valueCollection = (Collection<?>) value;
+            if (!valueCollection.isEmpty()) {
+                Object firstValue = valueCollection.iterator().next();
+                if (firstValue instanceof Map) {
+                    Class<?> listType = field.listType();
+                    if (listType == null) {
+                        throw new IllegalStateException("List fields of none standard types require '@ConfigList' annotation");
+                    }
+
+                    AutoSerializer<?> elementSerializer = context.serializer(listType, registry);
+                    value = elementSerializer.deserializeAll(valueCollection, context);
+
+                }
+            }
+        }
+        NumberCoercion coercion = field.coercion();
+        if (coercion != null && field.serializerType() == null && coercion.accepts(value)) {
+            Object coerced = coercion.coerce(value);
+            if (coerced == NumberCoercion.MISMATCH) {
+                throw new IllegalArgumentException("Value and constructor parameters did not match.\nExpected: " + type.getSimpleName() + "\nValue   : " + value.getClass().getSimpleName() + " (" + field.name() + ")");
+            }
+            if (coerced == NumberCoercion.OUT_OF_RANGE) {
+                throw new IllegalArgumentException("Value of " + field.name() + " is out of range of " + type.getSimpleName() + ": " + value);
+            }
+            return coerced;
+        }
+        Class<?> valueType = value.getClass();
+        boolean isInstance = (type.isInstance(value) || this.toPrimitive(type).isInstance(value));
+        boolean isEqualType = this.toPrimitive(type).equals(this.toPrimitive(valueType));
+        if (!isInstance && !isEqualType) {
+            //internal deserialization
+            value = deserializeField(field, type, value, registry, context);
+        }
+        return value;
+    }
+
+    private <T> Object deserialize(Object value, Serializer<?, T> serializer) throws Exception {
+        T casted = (T) value;
+        if (this.metrics == ConfigMetrics.NONE || serializer instanceof AutoSerializer) {
+            return serializer.deserialize(casted);
+        }
+        long start = System.nanoTime();
+        try {
+            Object deserialized = serializer.deserialize(casted);
+            this.metrics.deserialized(serializer.ofType(), System.nanoTime() - start);
+            return deserialized;
+        } catch (Exception e) {
+            this.metrics.failed(serializer.ofType(), e);
+            throw e;
+        }
+    }
+
+    private Object deserializeNested(Object value, AutoSerializer<?> serializer, SerializationContext context) throws Exception {
+        if (value instanceof Map) {
+            return serializer.deserialize((Map<String, Object>) value, context);
+        }
+        return deserialize(value, serializer);
+    }
+
+    private Object deserializeField(ClassModel.FieldModel field, Class<?> type, Object value, SerializerRegistry registry, SerializationContext context) throws Exception {
+        Serializer<?, ?> serializer = field.serializer();
+        if (serializer != null) {
+            return deserialize(value, serializer);
+        }
+        if (field.autoType() != null) {
+            return deserializeNested(value, context.serializer(field.autoType(), registry), context);
+        }
+        return deserializeType(type, value, registry, context);
+    }
+
+    private boolean isAutoSerializable(Class<?> type) {
+        return ClassModel.of(type).isAutoSerializable();
+    }
+
+    private Object deserializeType(Class<?> type, Object value, SerializerRegistry registry, SerializationContext context) throws Exception {
+        if (isAutoSerializable(type)) {
+            return deserializeNested(value, context.serializer(type, registry), context);
+        }
+        Optional<Serializer<?, ?>> opSerializer = findSerializer(type, value, registry);
+        if (opSerializer.isPresent()) {
+            Serializer<?, ?> serializer = opSerializer.get();
+            return deserialize(value, serializer);
+        }
+
+        if (isAcceptable(value)) {
+            return value;
+        }
+        throw new IllegalStateException("Cannot find serializer for " + type.getSimpleName());
+    }
+
+    /**
+     * Finds the serializer of the type, preferring one that reads the form of the value. This lets a field take
+     * either the map or the text form of a type, such as {@link java.time.LocalDate}
+     */
+    private static Optional<Serializer<?, ?>> findSerializer(Class<?> type, Object value, SerializerRegistry registry) {
+        Optional<Serializer<?, ?>> serializer = registry.find(type);
+        if (value instanceof String && serializer.isPresent() && !(serializer.get() instanceof Serializer.Text)) {
+            Optional<Serializer<?, ?>> text = registry.find(type, Serializer.Text.class);
+            return text.isPresent() ? text : serializer;
+        }
+        if (value instanceof Map && serializer.isPresent() && !(serializer.get() instanceof Serializer.KeyValue)) {
+            Optional<Serializer<?, ?>> keyValue = registry.find(type, Serializer.KeyValue.class);
+            return keyValue.isPresent() ? keyValue : serializer;
+        }
+        return serializer;
+    }
+
+    private <T> Object serializeType(Class<?> type, T value, SerializerRegistry registry) throws Exception {
+        Serializer<?, ?> serializer = registry.find(type).orElseThrow(() -> new IllegalStateException("Cannot find serializer for " + type.getSimpleName()));
+        return this.serializeOther(value, (Serializer<T, ?>) serializer);
+    }
+
+    private Map<String, Object> values(T value, SerializationContext context) throws Exception {
+        if (value == null) {
+            throw new IllegalArgumentException("Value should not be null");
+        }
+        ClassModel model = ClassModel.of(value.getClass());
+        SerializerRegistry registry = this.registry().scopedTo(value.getClass());
+
+        Object[] read = readFields(model, value);
+        List<ClassModel.FieldModel> fields = model.fields();
+        boolean timed = this.metrics != ConfigMetrics.NONE;
+        for (int i = 0; i < fields.size(); i++) {
+            ClassModel.FieldModel fieldModel = fields.get(i);
+            Serializer<?, ?> serializerKey = fieldModel.serializer();
+            long start = timed ? System.nanoTime() : 0;
+            //serialize object
+            read[i] = serializeMap(read[i], serializerKey, registry, context);
+            if (timed) {
+                this.metrics.fieldSerialized(model.type(), fieldModel.name(), System.nanoTime() - start);
+            }
+        }
+        if (model.hasUniqueNames()) {
+            return new FieldMap(model, read);
+        }
+        Map<String, Object> map = new LinkedHashMap<>(read.length * 2);
+        for (int i = 0; i < read.length; i++) {
+            map.put(fields.get(i).name(), read[i]);
+        }
+        return map;
+    }
+
+    private Object[] readFields(ClassModel model, Object value) {
+        GeneratedSerializer<?> generated = model.generated();
+        if (generated != null) {
+            return generated.readAll(value);
+        }
+        List<ClassModel.FieldModel> fields = model.fields();
+        Object[] read = new Object[fields.size()];
+        for (int i = 0; i < read.length; i++) {
+            read[i] = fields.get(i).get(value);
+        }
+        return read;
+    }
+
+    private Object serializeMap(Object obj, Serializer<?, ?> serializerToUse, SerializerRegistry registry, SerializationContext context) throws Exception {
+        if (obj instanceof Lazy) {
+            Object raw = ((Lazy<?>) obj).raw();
+            if (raw != null) {
+                return raw;
+            }
+            obj = ((Lazy<?>) obj).get();
+            if (this.references) {
+                //lazy values are read on their own, so their references must not reach outside of them
+                return this.serializeMap(obj, serializerToUse, registry, new SerializationContext(this));
+            }
+        }
+        if (obj == null) {
+            return obj;
+        }
+        Class<?> type = this.toPrimitive(obj.getClass());
+        if (type.isPrimitive()) {
+            return obj;
+        }
+        if (obj instanceof String || obj instanceof PrimitiveList) {
+            return obj;
+        }
+        if (PrimitiveList.isPrimitiveArray(type)) {
+            return PrimitiveList.of(obj);
+        }
+        if (obj instanceof Collection<?>) {
+            List<Object> list = new ArrayList<>();
+            for (Object v : ((Collection<?>) obj)) {
+                if (isAcceptable(v)) {
+                    list.add(v);
+                    continue;
+                }
+                Object result = context.serializer(v.getClass(), registry).serialize(v, context);
+                list.add(result);
+            }
+            return list;
+        }
+        if (serializerToUse != null) {
+            return serializeOther(obj, serializerToUse);
+        }
+        if (this.isAutoSerializable(type)) {
+            return context.serializer(type, registry).serialize(obj, context);
+        }
+        return this.serializeType(type, obj, registry);
+    }
+
+    private <T> Object serializeOther(Object obj, Serializer<T, ?> serializer) throws Exception {
+        if (this.metrics == ConfigMetrics.NONE || serializer instanceof AutoSerializer) {
+            return serializer.serialize((T) obj);
+        }
+        long start = System.nanoTime();
+        try {
+            Object serialized = serializer.serialize((T) obj);
+            this.metrics.serialized(serializer.ofType(), System.nanoTime() - start);
+            return serialized;
+        } catch (Exception e) {
+            this.metrics.failed(serializer.ofType(), e);
+            throw e;
+        }
+    }
+
+    private static final class ElementTask extends RecursiveAction {
+
+        private final AutoSerializer<?> serializer;
+        private final Object[] elements;
+        private final Object[] results;
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final Map<Integer, Exception> failures;
+
+        private ElementTask(AutoSerializer<?> serializer, Object[] elements, Object[] results, int from, int to, int chunk, Map<Integer, Exception> failures) {
+            this.serializer = serializer;
+            this.elements = elements;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.failures = failures;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.chunk) {
+                this.serializer.deserializeRange(this.elements, this.results, this.from, this.to, this.failures, false, new SerializationContext(this.serializer));
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new ElementTask(this.serializer, this.elements, this.results, this.from, middle, this.chunk, this.failures),
+                    new ElementTask(this.serializer, this.elements, this.results, middle, this.to, this.chunk, this.failures));
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package org.easy.config.auto;
+
+import org.easy.config.Serializer;
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigField;
+import org.easy.config.auto.annotations.ConfigList;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable reflection metadata of a single class, built once and shared by every {@link AutoSerializer}
+ */
+final class ClassModel {
+
+    private static final ClassValue<ClassModel> MODELS = new ClassValue<ClassModel>() {
+        @Override
+        protected ClassModel computeValue(Class<?> type) {
+            return new ClassModel(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Constructor<?> constructor;
+    private volatile ConstructorAccessor constructorAccessor;
+    private final List<FieldModel> fields;
+    private final Map<String, int[]> exactSlots;
+    private final Map<String, int[]> foldedSlots;
+    private final List<Class<? extends Serializer<?, ?>>> serializerTypes;
+    private final boolean statefulSerializers;
+    private final GeneratedSerializer<?> generated;
+    private final boolean uniqueNames;
+
+    private ClassModel(Class<?> type) {
+        this.type = type;
+        this.constructor = findConstructor(type);
+        this.fields = Collections.unmodifiableList(findFields(type));
+        this.exactSlots = new HashMap<>(this.fields.size() * 2);
+        this.foldedSlots = new HashMap<>(this.fields.size() * 2);
+        for (int i = 0; i < this.fields.size(); i++) {
+            String name = this.fields.get(i).name();
+            addSlot(this.exactSlots, name, i);
+            addSlot(this.foldedSlots, name.toLowerCase(Locale.ROOT), i);
+        }
+        this.serializerTypes = Collections.unmodifiableList(findSerializerTypes(this.constructor));
+        this.statefulSerializers = this.serializerTypes.stream().anyMatch(SerializerInstances::isStateful);
+        this.generated = findGenerated(type, this.constructor, this.fields);
+        this.uniqueNames = this.exactSlots.size() == this.fields.size();
+    }
+
+    private static void addSlot(Map<String, int[]> slots, String name, int slot) {
+        int[] current = slots.get(name);
+        if (current == null) {
+            slots.put(name, new int[]{slot});
+            return;
+        }
+        int[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = slot;
+        slots.put(name, next);
+    }
+
+    static ClassModel of(Class<?> type) {
+        return MODELS.get(type);
+    }
+
+    Class<?> type() {
+        return this.type;
+    }
+
+    boolean isAutoSerializable() {
+        return this.constructor != null;
+    }
+
+    ConstructorAccessor constructor() {
+        if (this.constructor == null) {
+            throw new IllegalStateException("Cannot find a constructor annotated with @ConfigConstructor in '" + this.type.getSimpleName() + "'");
+        }
+        ConstructorAccessor accessor = this.constructorAccessor;
+        if (accessor == null) {
+            accessor = ConstructorAccessor.of(this.constructor);
+            this.constructorAccessor = accessor;
+        }
+        return accessor;
+    }
+
+    /**
+     * Gets the serializer generated at compile time for this class
+     *
+     * @return the generated serializer or null if none is on the classpath
+     */
+    GeneratedSerializer<?> generated() {
+        return this.generated;
+    }
+
+    List<FieldModel> fields() {
+        return this.fields;
+    }
+
+    /**
+     * Finds the constructor parameters a key binds to, matching names case-insensitively. A subclass field
+     * shadowing a superclass field shares its name, so both parameters bind to the key
+     *
+     * @param key the key of the incoming map
+     * @return the parameter indexes in declaration order or null if no field uses the key
+     */
+    int[] slotsOf(String key) {
+        int[] slots = this.exactSlots.get(key);
+        if (slots == null) {
+            slots = this.foldedSlots.get(key.toLowerCase(Locale.ROOT));
+        }
+        return slots;
+    }
+
+    boolean isExactSlot(String key) {
+        return this.exactSlots.containsKey(key);
+    }
+
+    /**
+     * Finds the field of a key with the exact case
+     *
+     * @param key the key
+     * @return the field index or -1 if no field uses the key
+     */
+    int exactSlotOf(String key) {
+        int[] slots = this.exactSlots.get(key);
+        return slots == null ? -1 : slots[0];
+    }
+
+    /**
+     * Checks that no two fields share a name, in which case the fields can key a {@link FieldMap}
+     *
+     * @return true if every field has its own name
+     */
+    boolean hasUniqueNames() {
+        return this.uniqueNames;
+    }
+
+    List<Class<? extends Serializer<?, ?>>> serializerTypes() {
+        return this.serializerTypes;
+    }
+
+    boolean hasStatefulSerializers() {
+        return this.statefulSerializers;
+    }
+
+    private static Constructor<?> findConstructor(Class<?> type) {
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.isAnnotationPresent(ConfigConstructor.class)) {
+                return constructor;
+            }
+        }
+        return null;
+    }
+
+    private static List<FieldModel> findFields(Class<?> type) {
+        List<FieldModel> fields = new ArrayList<>();
+        Class<?> targetType = type;
+        while (targetType != null) {
+            for (Field field : targetType.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                ConfigField configField = field.getDeclaredAnnotation(ConfigField.class);
+                if (configField != null && configField.exclude()) {
+                    continue;
+                }
+                fields.add(new FieldModel(field, configField, field.getDeclaredAnnotation(ConfigList.class)));
+            }
+            targetType = targetType.getSuperclass();
+        }
+        return fields;
+    }
+
+    private static GeneratedSerializer<?> findGenerated(Class<?> type, Constructor<?> constructor, List<FieldModel> fields) {
+        if (constructor == null) {
+            return null;
+        }
+        Class<?> generatedType;
+        try {
+            generatedType = Class.forName(GeneratedSerializer.nameOf(type), true, type.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+        if (!GeneratedSerializer.class.isAssignableFrom(generatedType)) {
+            return null;
+        }
+        GeneratedSerializer<?> generated;
+        try {
+            generated = (GeneratedSerializer<?>) generatedType.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+        if (generated.ofType() != type || !generated.matches(fields)) {
+            //stale output of an older compile, rely on reflection instead
+            return null;
+        }
+        return generated;
+    }
+
+    private static List<Class<? extends Serializer<?, ?>>> findSerializerTypes(Constructor<?> constructor) {
+        if (constructor == null) {
+            return Collections.emptyList();
+        }
+        List<Class<? extends Serializer<?, ?>>> types = new ArrayList<>();
+        for (Class<? extends Serializer> serializerType : constructor.getDeclaredAnnotation(ConfigConstructor.class).serializers()) {
+            if (serializerType.isInterface()) {
+                continue;
+            }
+            types.add((Class<? extends Serializer<?, ?>>) serializerType);
+        }
+        return types;
+    }
+
+    static final class FieldModel {
+
+        private final Field field;
+        private volatile FieldAccessor accessor;
+        private final String name;
+        private final boolean optional;
+        private final Class<? extends Serializer<?, ?>> serializerType;
+        private final Class<?> autoType;
+        private final Class<?> listType;
+        private final Class<?> lazyType;
+        private final NumberCoercion coercion;
+
+        private FieldModel(Field field, ConfigField configField, ConfigList configList) {
+            this.field = field;
+            this.name = ((configField == null || configField.name().isEmpty()) ? field.getName() : configField.name()).intern();
+            this.optional = configField != null && configField.optional();
+            this.serializerType = (configField == null || configField.serializer().isInterface()) ? null : (Class<? extends Serializer<?, ?>>) configField.serializer();
+            this.autoType = (configField == null || configField.auto() == Object.class) ? null : configField.auto();
+            this.listType = configList == null ? null : configList.ofType();
+            this.lazyType = field.getType() == Lazy.class ? findLazyType(field) : null;
+            this.coercion = NumberCoercion.of(this.lazyType == null ? field.getType() : this.lazyType, configField != null && configField.parseNumbers());
+        }
+
+        private static Class<?> findLazyType(Field field) {
+            Type type = field.getGenericType();
+            if (!(type instanceof ParameterizedType)) {
+                return Object.class;
+            }
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof ParameterizedType) {
+                argument = ((ParameterizedType) argument).getRawType();
+            }
+            return argument instanceof Class ? (Class<?>) argument : Object.class;
+        }
+
+        Field field() {
+            return this.field;
+        }
+
+        Object get(Object instance) {
+            return this.accessor().get(instance);
+        }
+
+        FieldAccessor accessor() {
+            FieldAccessor accessor = this.accessor;
+            if (accessor == null) {
+                accessor = FieldAccessor.of(this.field);
+                this.accessor = accessor;
+            }
+            return accessor;
+        }
+
+        Class<?> type() {
+            return this.field.getType();
+        }
+
+        String name() {
+            return this.name;
+        }
+
+        boolean isOptional() {
+            return this.optional;
+        }
+
+        Class<? extends Serializer<?, ?>> serializerType() {
+            return this.serializerType;
+        }
+
+        Serializer<?, ?> serializer() {
+            return this.serializerType == null ? null : SerializerInstances.get(this.serializerType);
+        }
+
+        Class<?> autoType() {
+            return this.autoType;
+        }
+
+        Class<?> listType() {
+            return this.listType;
+        }
+
+        /**
+         * Gets the type held by a {@link Lazy} field
+         *
+         * @return the type or null if the field is not lazy
+         */
+        Class<?> lazyType() {
+            return this.lazyType;
+        }
+
+        /**
+         * Gets the conversion of parsed numbers into the type of this field
+         *
+         * @return the coercion or null if the field does not hold a number
+         */
+        NumberCoercion coercion() {
+            return this.coercion;
+        }
+    }
+}
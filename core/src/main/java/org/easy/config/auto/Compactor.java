@@ -0,0 +1,114 @@
+package org.easy.config.auto;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shrinks deserialized values that are kept for a long time. Short strings, such as keys and enum-like values, are
+ * canonicalized through a bounded cache so equal strings share one instance. Lists are replaced by trimmed immutable
+ * lists, and the String keys of raw maps, the {@link HashMap} and {@link LinkedHashMap} produced by parsers, are
+ * canonicalized as well. Other maps, such as sorted maps or maps with keys of other types, are kept as they are.
+ * <p>
+ * One compactor can be shared by several serializers, for example to share strings between the configs of many
+ * tenants. Once the cache is full new strings are kept as they are
+ */
+public final class Compactor {
+
+    public static final int DEFAULT_CAPACITY = 16384;
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final int maxLength;
+
+    public Compactor() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * @param capacity the most strings kept in the cache
+     * @param maxLength the longest string that is canonicalized
+     */
+    public Compactor(int capacity, int maxLength) {
+        this.capacity = capacity;
+        this.maxLength = maxLength;
+    }
+
+    public String canonical(String value) {
+        if (value.length() > this.maxLength) {
+            return value;
+        }
+        String canonical = this.strings.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (this.strings.size() >= this.capacity) {
+            return value;
+        }
+        canonical = this.strings.putIfAbsent(value, value);
+        return canonical == null ? value : canonical;
+    }
+
+    /**
+     * Gets the compact form of a value
+     *
+     * @param value the value
+     * @return the canonical string, an immutable list, a raw map with canonical keys or the value itself
+     */
+    public Object compact(Object value) {
+        if (value instanceof String) {
+            return this.canonical((String) value);
+        }
+        if (value instanceof List && !(value instanceof PrimitiveList)) {
+            return this.compactList((List<?>) value);
+        }
+        if (value instanceof Map) {
+            return this.compactMap((Map<?, ?>) value);
+        }
+        return value;
+    }
+
+    public int size() {
+        return this.strings.size();
+    }
+
+    private List<Object> compactList(List<?> list) {
+        if (list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Object[] array = list.toArray();
+        boolean nulls = false;
+        for (int i = 0; i < array.length; i++) {
+            Object element = array[i];
+            if (element == null) {
+                nulls = true;
+                continue;
+            }
+            array[i] = this.compact(element);
+        }
+        if (nulls) {
+            return Collections.unmodifiableList(Arrays.asList(array));
+        }
+        return List.of(array);
+    }
+
+    private Map<?, ?> compactMap(Map<?, ?> map) {
+        Class<?> type = map.getClass();
+        if (type != HashMap.class && type != LinkedHashMap.class) {
+            return map;
+        }
+        for (Object key : map.keySet()) {
+            if (key != null && !(key instanceof String)) {
+                return map;
+            }
+        }
+        int capacity = (int) (map.size() / 0.75f) + 1;
+        Map<String, Object> compacted = type == HashMap.class ? new HashMap<>(capacity) : new LinkedHashMap<>(capacity);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            String key = (String) entry.getKey();
+            Object value = entry.getValue();
+            compacted.put(key == null ? null : this.canonical(key), value == null ? null : this.compact(value));
+        }
+        return compacted;
+    }
+}
@@ -0,0 +1,136 @@
+package org.easy.config.auto;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Invokes a {@link org.easy.config.auto.annotations.ConfigConstructor} through a spreading {@link MethodHandle}
+ * that is resolved once. When the private lookup is denied, the handle is made from the constructor after
+ * {@code setAccessible} instead
+ */
+final class ConstructorAccessor {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Constructor<?> constructor;
+    private final Class<?>[] parameterTypes;
+    private final MethodHandle invoker;
+
+    private ConstructorAccessor(Constructor<?> constructor, MethodHandle invoker) {
+        this.constructor = constructor;
+        this.parameterTypes = constructor.getParameterTypes();
+        this.invoker = invoker;
+    }
+
+    static ConstructorAccessor of(Constructor<?> constructor) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            MethodHandles.Lookup privateLookup = MethodHandles.privateLookupIn(constructor.getDeclaringClass(), lookup);
+            return new ConstructorAccessor(constructor, spread(privateLookup.unreflectConstructor(constructor), constructor.getParameterCount()));
+        } catch (IllegalAccessException | SecurityException e) {
+            //module does not open the package to us, fall back to reflection
+        }
+        try {
+            constructor.setAccessible(true);
+            return new ConstructorAccessor(constructor, spread(lookup.unreflectConstructor(constructor), constructor.getParameterCount()));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new ConstructorAccessor(constructor, null);
+        }
+    }
+
+    private static MethodHandle spread(MethodHandle handle, int parameters) {
+        return handle.asType(MethodType.genericMethodType(parameters)).asSpreader(Object[].class, parameters).asType(INVOKER_TYPE);
+    }
+
+    /**
+     * Calls the constructor. Anything the constructor throws is passed on as is, never wrapped in an
+     * {@link java.lang.reflect.InvocationTargetException}
+     *
+     * @param values the parameters in constructor order
+     * @return the new instance
+     * @throws IllegalAccessException if the module of the class denies access to the constructor
+     */
+    Object newInstance(Object[] values) throws Exception {
+        if (!this.accepts(values)) {
+            String constructorParameter = Arrays.stream(this.parameterTypes).map(Class::getSimpleName).collect(Collectors.joining(", "));
+            String valueNames = Arrays.stream(values).map(v -> v == null ? "null" : v.getClass().getSimpleName()).collect(Collectors.joining(", "));
+
+            throw new IllegalArgumentException("Value and constructor parameters did not match.\nConstructor: " + constructorParameter + "\nValues     : " + valueNames);
+        }
+        if (this.invoker == null) {
+            throw new IllegalAccessException("Cannot access the constructor of " + this.constructor.getDeclaringClass().getSimpleName() + ", open its package to EasyConfig or create a manual serializer");
+        }
+        try {
+            return (Object) this.invoker.invokeExact(values);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean accepts(Object[] values) {
+        if (values.length != this.parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (!isAssignable(this.parameterTypes[i], values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAssignable(Class<?> parameter, Object value) {
+        if (!parameter.isPrimitive()) {
+            return value == null || parameter.isInstance(value);
+        }
+        if (value == null) {
+            return false;
+        }
+        Class<?> valueType = value.getClass();
+        if (parameter == boolean.class) {
+            return valueType == Boolean.class;
+        }
+        if (parameter == char.class) {
+            return valueType == Character.class;
+        }
+        int rank = wideningRank(valueType);
+        if (rank < 0) {
+            return false;
+        }
+        if (valueType == Character.class) {
+            return parameter != byte.class && parameter != short.class;
+        }
+        return rank <= wideningRank(parameter);
+    }
+
+    private static int wideningRank(Class<?> type) {
+        if (type == byte.class || type == Byte.class) {
+            return 0;
+        }
+        if (type == short.class || type == Short.class) {
+            return 1;
+        }
+        if (type == Character.class) {
+            return 1;
+        }
+        if (type == int.class || type == Integer.class) {
+            return 2;
+        }
+        if (type == long.class || type == Long.class) {
+            return 3;
+        }
+        if (type == float.class || type == Float.class) {
+            return 4;
+        }
+        if (type == double.class || type == Double.class) {
+            return 5;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,56 @@
+package org.easy.config.auto;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Reads a single field through a {@link MethodHandle} that is resolved once.
+ * Plain reflection is only used when the private lookup is denied
+ */
+final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+
+    private FieldAccessor(Field field, MethodHandle getter) {
+        this.field = field;
+        this.getter = getter;
+    }
+
+    static FieldAccessor of(Field field) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            MethodHandles.Lookup privateLookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup);
+            return new FieldAccessor(field, privateLookup.unreflectGetter(field).asType(GETTER_TYPE));
+        } catch (IllegalAccessException | SecurityException e) {
+            //module does not open the package to us, fall back to reflection
+        }
+        try {
+            field.setAccessible(true);
+            return new FieldAccessor(field, lookup.unreflectGetter(field).asType(GETTER_TYPE));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new FieldAccessor(field, null);
+        }
+    }
+
+    boolean isAccessible() {
+        return this.getter != null;
+    }
+
+    Object get(Object instance) {
+        if (this.getter == null) {
+            throw new IllegalStateException("Cannot access fields of " + this.field.getType().getSimpleName() + "(field inside " + instance.getClass().getSimpleName() + ")" + " due to Java9 blocking. Create a manual serializer for the type of " + this.field.getType().getSimpleName());
+        }
+        try {
+            return (Object) this.getter.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
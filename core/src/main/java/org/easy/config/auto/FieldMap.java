@@ -0,0 +1,201 @@
+package org.easy.config.auto;
+
+import java.util.*;
+
+/**
+ * The serialized form of a config. Keys are the shared field names of the {@link ClassModel} and values sit in a
+ * single array, so a serialized object costs two allocations and iterates in field declaration order.
+ * <p>
+ * Replacing the value of a field writes into the array. Adding or removing a key copies the entries into a
+ * {@link LinkedHashMap} first, which keeps the order
+ */
+final class FieldMap extends AbstractMap<String, Object> {
+
+    private final ClassModel model;
+    private final Object[] values;
+    private Map<String, Object> copy;
+    private Set<Entry<String, Object>> entrySet;
+
+    FieldMap(ClassModel model, Object[] values) {
+        this.model = model;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return this.copy == null ? this.values.length : this.copy.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (this.copy != null) {
+            return this.copy.containsKey(key);
+        }
+        return key instanceof String && this.model.exactSlotOf((String) key) != -1;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (this.copy != null) {
+            return this.copy.get(key);
+        }
+        int slot = key instanceof String ? this.model.exactSlotOf((String) key) : -1;
+        return slot == -1 ? null : this.values[slot];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (this.copy == null) {
+            int slot = key == null ? -1 : this.model.exactSlotOf(key);
+            if (slot != -1) {
+                Object previous = this.values[slot];
+                this.values[slot] = value;
+                return previous;
+            }
+        }
+        return this.copy().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (this.copy == null && !this.containsKey(key)) {
+            return null;
+        }
+        return this.copy().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        this.copy().clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (this.copy != null) {
+            return this.copy.entrySet();
+        }
+        Set<Entry<String, Object>> entrySet = this.entrySet;
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return copy == null ? new EntryIterator() : copy.entrySet().iterator();
+                }
+
+                @Override
+                public int size() {
+                    return FieldMap.this.size();
+                }
+            };
+            this.entrySet = entrySet;
+        }
+        return entrySet;
+    }
+
+    private Map<String, Object> copy() {
+        if (this.copy == null) {
+            Map<String, Object> copy = new LinkedHashMap<>(this.values.length * 2);
+            List<ClassModel.FieldModel> fields = this.model.fields();
+            for (int i = 0; i < this.values.length; i++) {
+                copy.put(fields.get(i).name(), this.values[i]);
+            }
+            this.copy = copy;
+        }
+        return this.copy;
+    }
+
+    /**
+     * Iterates the array until an entry is removed, then continues over the copy holding the remaining entries
+     */
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int index;
+        private boolean removable;
+        private Iterator<Entry<String, Object>> copied;
+
+        @Override
+        public boolean hasNext() {
+            if (this.copied != null) {
+                return this.copied.hasNext();
+            }
+            return this.index < FieldMap.this.values.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (this.copied != null) {
+                return this.copied.next();
+            }
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.removable = true;
+            return new FieldEntry(this.index++);
+        }
+
+        @Override
+        public void remove() {
+            if (this.copied == null) {
+                if (!this.removable) {
+                    throw new IllegalStateException();
+                }
+                this.copied = FieldMap.this.copy().entrySet().iterator();
+                for (int i = 0; i < this.index; i++) {
+                    this.copied.next();
+                }
+            }
+            this.copied.remove();
+        }
+    }
+
+    private final class FieldEntry implements Entry<String, Object> {
+
+        private final int slot;
+
+        private FieldEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public String getKey() {
+            return FieldMap.this.model.fields().get(this.slot).name();
+        }
+
+        @Override
+        public Object getValue() {
+            if (FieldMap.this.copy != null) {
+                return FieldMap.this.copy.get(this.getKey());
+            }
+            return FieldMap.this.values[this.slot];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (FieldMap.this.copy != null) {
+                return FieldMap.this.copy.put(this.getKey(), value);
+            }
+            Object previous = FieldMap.this.values[this.slot];
+            FieldMap.this.values[this.slot] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) obj;
+            return this.getKey().equals(entry.getKey()) && Objects.equals(this.getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.getKey().hashCode() ^ Objects.hashCode(this.getValue());
+        }
+
+        @Override
+        public String toString() {
+            return this.getKey() + "=" + this.getValue();
+        }
+    }
+}
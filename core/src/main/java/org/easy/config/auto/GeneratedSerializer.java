@@ -0,0 +1,271 @@
+package org.easy.config.auto;
+
+import org.easy.config.Serializer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base of the serializers written by the EasyConfig annotation processor. A generated serializer reads fields and
+ * calls the {@link org.easy.config.auto.annotations.ConfigConstructor} directly, while {@link AutoSerializer} keeps
+ * converting the values so both paths behave the same.
+ * <p>
+ * {@link AutoSerializer} picks up a generated serializer automatically when one is found next to the config class.
+ * Private fields and constructors are reached through method handles of a private lookup that the generated class
+ * passes in, so no {@code setAccessible} call is needed
+ *
+ * @param <T> the config class
+ */
+public abstract class GeneratedSerializer<T> implements Serializer.KeyValue<T> {
+
+    public static final String SUFFIX = "_ConfigSerializer";
+
+    private final Class<T> ofType;
+    private final String[] fields;
+    private final Class<?>[] types;
+    private volatile AutoSerializer<T> serializer;
+
+    /**
+     * @param ofType the config class
+     * @param fields the java names of the fields in constructor order
+     * @param types  the erased types of the fields, used with the names to notice output of an older compile
+     */
+    protected GeneratedSerializer(Class<T> ofType, String[] fields, Class<?>[] types) {
+        this.ofType = ofType;
+        this.fields = fields;
+        this.types = types;
+    }
+
+    /**
+     * Gets the name of the serializer generated for the provided class
+     *
+     * @param type the config class
+     * @return the fully qualified name of the generated class
+     */
+    public static String nameOf(Class<?> type) {
+        return type.getName().replace('$', '_') + SUFFIX;
+    }
+
+    /**
+     * Finds the parameter of a key with the exact case
+     *
+     * @param key the key of the incoming map
+     * @return the parameter index or -1 if the key is unknown
+     */
+    protected abstract int slotOf(String key);
+
+    protected abstract void read(T value, Object[] values);
+
+    protected abstract T create(Object[] values);
+
+    @Override
+    public Class<?> ofType() {
+        return this.ofType;
+    }
+
+    @Override
+    public Map<String, Object> serialize(T value) throws Exception {
+        return this.serializer().serialize(value);
+    }
+
+    @Override
+    public T deserialize(Map<String, Object> map) throws Exception {
+        return this.serializer().deserialize(map);
+    }
+
+    private AutoSerializer<T> serializer() {
+        AutoSerializer<T> serializer = this.serializer;
+        if (serializer == null) {
+            serializer = new AutoSerializer<>(this.ofType);
+            this.serializer = serializer;
+        }
+        return serializer;
+    }
+
+    boolean matches(List<ClassModel.FieldModel> fields) {
+        if (fields.size() != this.fields.length) {
+            return false;
+        }
+        for (int i = 0; i < this.fields.length; i++) {
+            Field field = fields.get(i).field();
+            if (!field.getName().equals(this.fields[i]) || field.getType() != this.types[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Object[] readAll(Object value) {
+        Object[] values = new Object[this.fields.length];
+        this.read(this.ofType.cast(value), values);
+        return values;
+    }
+
+    T deserialize(Map<String, Object> map, AutoSerializer<?> owner, ClassModel model, SerializerRegistry registry, SerializationContext context) throws Exception {
+        Object[] values = context.acquire(this.fields.length);
+        try {
+            this.bind(map, model, values);
+            owner.convertParameters(model, values, registry, context);
+            return (T) owner.construct(this, null, values);
+        } finally {
+            context.release(values);
+        }
+    }
+
+    private void bind(Map<String, Object> map, ClassModel model, Object[] values) {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            String key = entry.getKey();
+            if (key == null) {
+                continue;
+            }
+            int slot = this.slotOf(key);
+            if (slot != -1) {
+                values[slot] = entry.getValue();
+                continue;
+            }
+            int[] slots = model.slotsOf(key);
+            if (slots == null) {
+                continue;
+            }
+            for (int folded : slots) {
+                if (values[folded] == null) {
+                    values[folded] = entry.getValue();
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a getter of a field the generated class cannot read directly, typed as {@code (Object) Object}
+     *
+     * @param lookup the lookup of the generated class, which lives in the package of the config
+     * @param owner the class declaring the field
+     * @param name the name of the field
+     * @param type the type of the field
+     * @return the getter
+     */
+    protected static MethodHandle getter(MethodHandles.Lookup lookup, Class<?> owner, String name, Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(owner, lookup).findGetter(owner, name, type).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read " + owner.getSimpleName() + "." + name, e);
+        }
+    }
+
+    protected static MethodHandle constructor(MethodHandles.Lookup lookup, Class<?> owner, Class<?>... parameters) {
+        try {
+            return MethodHandles.privateLookupIn(owner, lookup).findConstructor(owner, MethodType.methodType(void.class, parameters));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot call the constructor of " + owner.getSimpleName(), e);
+        }
+    }
+
+    protected static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new IllegalStateException(e);
+    }
+
+    protected static <V> V cast(Class<V> type, Object value) {
+        if (value == null || type.isInstance(value)) {
+            return (V) value;
+        }
+        throw mismatch(type, value);
+    }
+
+    protected static boolean asBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        throw mismatch(boolean.class, value);
+    }
+
+    protected static char asChar(Object value) {
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        //characters are written as one character strings
+        if (value instanceof String && ((String) value).length() == 1) {
+            return ((String) value).charAt(0);
+        }
+        throw mismatch(char.class, value);
+    }
+
+    protected static byte asByte(Object value) {
+        if (value instanceof Byte) {
+            return (Byte) value;
+        }
+        throw mismatch(byte.class, value);
+    }
+
+    protected static short asShort(Object value) {
+        if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).shortValue();
+        }
+        throw mismatch(short.class, value);
+    }
+
+    protected static int asInt(Object value) {
+        if (isIntLike(value)) {
+            return intOf(value);
+        }
+        throw mismatch(int.class, value);
+    }
+
+    protected static long asLong(Object value) {
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        if (isIntLike(value)) {
+            return intOf(value);
+        }
+        throw mismatch(long.class, value);
+    }
+
+    protected static float asFloat(Object value) {
+        if (value instanceof Float) {
+            return (Float) value;
+        }
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        if (isIntLike(value)) {
+            return intOf(value);
+        }
+        throw mismatch(float.class, value);
+    }
+
+    protected static double asDouble(Object value) {
+        if (value instanceof Double || value instanceof Float || value instanceof Long) {
+            return ((Number) value).doubleValue();
+        }
+        if (isIntLike(value)) {
+            return intOf(value);
+        }
+        throw mismatch(double.class, value);
+    }
+
+    private static boolean isIntLike(Object value) {
+        return value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof Character;
+    }
+
+    private static int intOf(Object value) {
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        return ((Number) value).intValue();
+    }
+
+    private static IllegalArgumentException mismatch(Class<?> type, Object value) {
+        String valueName = value == null ? "null" : value.getClass().getSimpleName();
+        return new IllegalArgumentException("Value and constructor parameters did not match.\nExpected: " + type.getSimpleName() + "\nValue   : " + valueName);
+    }
+}
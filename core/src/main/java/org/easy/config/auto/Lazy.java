@@ -0,0 +1,84 @@
+package org.easy.config.auto;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A config field whose value is only deserialized when it is first read. Declare the field and constructor parameter
+ * as {@code Lazy<Section>} and {@link AutoSerializer} keeps the raw map of the section until {@link #get()} is called.
+ * <p>
+ * The value is loaded once, even when read by several threads. A section that was never loaded is serialized from its
+ * raw map
+ *
+ * @param <T> the type of value
+ */
+public final class Lazy<T> {
+
+    private volatile Callable<? extends T> loader;
+    private Object raw;
+    private T value;
+
+    private Lazy(Object raw, Callable<? extends T> loader, T value) {
+        this.raw = raw;
+        this.loader = loader;
+        this.value = value;
+    }
+
+    /**
+     * Creates a lazy value that is already loaded
+     *
+     * @param value the value
+     * @param <T> the type of value
+     * @return the loaded lazy value
+     */
+    public static <T> Lazy<T> of(T value) {
+        return new Lazy<>(null, null, value);
+    }
+
+    static <T> Lazy<T> of(Object raw, Callable<? extends T> loader) {
+        return new Lazy<>(raw, loader, null);
+    }
+
+    /**
+     * Gets the value, deserializing it on the first call
+     *
+     * @return the value
+     * @throws IllegalArgumentException if the raw value does not match the type, the next call tries again
+     */
+    public T get() {
+        if (this.loader != null) {
+            synchronized (this) {
+                Callable<? extends T> loader = this.loader;
+                if (loader != null) {
+                    try {
+                        this.value = loader.call();
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IllegalArgumentException("Cannot load lazy value", e);
+                    }
+                    this.raw = null;
+                    this.loader = null;
+                }
+            }
+        }
+        return this.value;
+    }
+
+    public boolean isLoaded() {
+        return this.loader == null;
+    }
+
+    /**
+     * Gets the raw value if this has not been loaded yet
+     *
+     * @return the raw value or null if loaded
+     */
+    synchronized Object raw() {
+        return this.raw;
+    }
+
+    @Override
+    public String toString() {
+        return this.isLoaded() ? "Lazy[" + this.value + "]" : "Lazy[not loaded]";
+    }
+}
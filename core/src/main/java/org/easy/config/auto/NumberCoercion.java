@@ -0,0 +1,253 @@
+package org.easy.config.auto;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Converts a parsed number into the number type of a parameter. Widening always succeeds, narrowing succeeds when the
+ * value fits and has no fraction, and strings are parsed only when the field asks for it.
+ * <p>
+ * Failures are returned as {@link #MISMATCH} or {@link #OUT_OF_RANGE} rather than thrown, so callers decide how to
+ * report them
+ */
+final class NumberCoercion {
+
+    static final Object MISMATCH = new Object() {
+        @Override
+        public String toString() {
+            return "MISMATCH";
+        }
+    };
+
+    static final Object OUT_OF_RANGE = new Object() {
+        @Override
+        public String toString() {
+            return "OUT_OF_RANGE";
+        }
+    };
+
+    private static final double LONG_LIMIT = 0x1p63;
+
+    private static final Map<Target, NumberCoercion> STRICT = new EnumMap<>(Target.class);
+    private static final Map<Target, NumberCoercion> PARSING = new EnumMap<>(Target.class);
+
+    static {
+        for (Target target : Target.values()) {
+            STRICT.put(target, new NumberCoercion(target, false));
+            PARSING.put(target, new NumberCoercion(target, true));
+        }
+    }
+
+    private final Target target;
+    private final boolean parseStrings;
+
+    private NumberCoercion(Target target, boolean parseStrings) {
+        this.target = target;
+        this.parseStrings = parseStrings;
+    }
+
+    /**
+     * Gets the coercion of a number type
+     *
+     * @param type the parameter type
+     * @param parseStrings if strings should be parsed into the number
+     * @return the coercion or null if the type is not a number
+     */
+    static NumberCoercion of(Class<?> type, boolean parseStrings) {
+        Target target = Target.of(type);
+        if (target == null) {
+            return null;
+        }
+        return (parseStrings ? PARSING : STRICT).get(target);
+    }
+
+    boolean accepts(Object value) {
+        return value instanceof Number || (this.parseStrings && value instanceof String);
+    }
+
+    /**
+     * Converts the value
+     *
+     * @param value the parsed value
+     * @return the converted value, {@link #MISMATCH} or {@link #OUT_OF_RANGE}
+     */
+    Object coerce(Object value) {
+        if (value instanceof String) {
+            if (!this.parseStrings) {
+                return MISMATCH;
+            }
+            value = parse((String) value);
+            if (value == MISMATCH) {
+                return MISMATCH;
+            }
+        }
+        if (!(value instanceof Number)) {
+            return MISMATCH;
+        }
+        Number number = (Number) value;
+        switch (this.target) {
+            case BYTE:
+                return integral(number, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            case SHORT:
+                return integral(number, Short.MIN_VALUE, Short.MAX_VALUE);
+            case INT:
+                return integral(number, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            case LONG:
+                return integral(number, Long.MIN_VALUE, Long.MAX_VALUE);
+            case FLOAT:
+            case DOUBLE:
+                return floating(number);
+            case BIG_INTEGER:
+                return bigInteger(number);
+            default:
+                return bigDecimal(number);
+        }
+    }
+
+    private Object integral(Number number, long min, long max) {
+        long value;
+        if (isLongLike(number)) {
+            value = number.longValue();
+        } else if (number instanceof BigInteger) {
+            BigInteger bigInteger = (BigInteger) number;
+            if (bigInteger.bitLength() >= 64) {
+                return OUT_OF_RANGE;
+            }
+            value = bigInteger.longValue();
+        } else if (number instanceof BigDecimal) {
+            Object bigInteger = bigInteger(number);
+            return bigInteger instanceof BigInteger ? integral((BigInteger) bigInteger, min, max) : bigInteger;
+        } else if (number instanceof Double || number instanceof Float) {
+            double decimal = number.doubleValue();
+            if (Double.isNaN(decimal) || decimal != Math.rint(decimal)) {
+                return Double.isInfinite(decimal) ? OUT_OF_RANGE : MISMATCH;
+            }
+            if (decimal < -LONG_LIMIT || decimal >= LONG_LIMIT) {
+                return OUT_OF_RANGE;
+            }
+            value = (long) decimal;
+        } else {
+            return MISMATCH;
+        }
+        if (value < min || value > max) {
+            return OUT_OF_RANGE;
+        }
+        switch (this.target) {
+            case BYTE:
+                return (byte) value;
+            case SHORT:
+                return (short) value;
+            case INT:
+                return (int) value;
+            default:
+                return value;
+        }
+    }
+
+    private Object floating(Number number) {
+        double value = number.doubleValue();
+        boolean decimal = number instanceof Double || number instanceof Float;
+        if (!decimal && Double.isInfinite(value)) {
+            return OUT_OF_RANGE;
+        }
+        if (this.target == Target.DOUBLE) {
+            return value;
+        }
+        if (!Double.isInfinite(value) && Math.abs(value) > Float.MAX_VALUE) {
+            return OUT_OF_RANGE;
+        }
+        return (float) value;
+    }
+
+    private static Object bigInteger(Number number) {
+        if (number instanceof BigInteger) {
+            return number;
+        }
+        if (isLongLike(number)) {
+            return BigInteger.valueOf(number.longValue());
+        }
+        BigDecimal decimal;
+        if (number instanceof BigDecimal) {
+            decimal = (BigDecimal) number;
+        } else if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                return MISMATCH;
+            }
+            decimal = new BigDecimal(value);
+        } else {
+            return MISMATCH;
+        }
+        try {
+            return decimal.toBigIntegerExact();
+        } catch (ArithmeticException e) {
+            return MISMATCH;
+        }
+    }
+
+    private static Object bigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (isLongLike(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                return MISMATCH;
+            }
+            return BigDecimal.valueOf(value);
+        }
+        return MISMATCH;
+    }
+
+    private Object parse(String text) {
+        String trimmed = text.trim();
+        try {
+            if (this.target == Target.FLOAT || this.target == Target.DOUBLE) {
+                return Double.parseDouble(trimmed);
+            }
+            return new BigDecimal(trimmed);
+        } catch (NumberFormatException e) {
+            return MISMATCH;
+        }
+    }
+
+    private static boolean isLongLike(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
+    private enum Target {
+        BYTE(byte.class, Byte.class),
+        SHORT(short.class, Short.class),
+        INT(int.class, Integer.class),
+        LONG(long.class, Long.class),
+        FLOAT(float.class, Float.class),
+        DOUBLE(double.class, Double.class),
+        BIG_INTEGER(BigInteger.class, BigInteger.class),
+        BIG_DECIMAL(BigDecimal.class, BigDecimal.class);
+
+        private final Class<?> type;
+        private final Class<?> boxed;
+
+        Target(Class<?> type, Class<?> boxed) {
+            this.type = type;
+            this.boxed = boxed;
+        }
+
+        private static Target of(Class<?> type) {
+            for (Target target : values()) {
+                if (target.type == type || target.boxed == type) {
+                    return target;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Builds the models of config classes and everything they reference ahead of the first deserialize, see
+ * {@link AutoSerializer#prepare(Class[])}. Each class is prepared on its own fork join task, nested configs are found
+ * while preparing their owner and forked in turn
+ */
+final class Preparation {
+
+    private final SerializerRegistry registry;
+    private final Set<Class<?>> seen = ConcurrentHashMap.newKeySet();
+    private final Map<Class<?>, Duration> timings = new ConcurrentHashMap<>();
+    private final Queue<PrepareReport.Issue> issues = new ConcurrentLinkedQueue<>();
+
+    private Preparation(SerializerRegistry registry) {
+        this.registry = registry;
+    }
+
+    static PrepareReport prepare(SerializerRegistry registry, Collection<Class<?>> types, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        Preparation preparation = new Preparation(registry);
+        List<ClassTask> tasks = new ArrayList<>(types.size());
+        for (Class<?> type : types) {
+            if (preparation.seen.add(type)) {
+                tasks.add(preparation.new ClassTask(type));
+            }
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+        return new PrepareReport(registry, preparation.timings, preparation.issues, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Finds the classes of a package and its sub packages that have a constructor annotated with
+     * {@link ConfigConstructor}
+     *
+     * @param packageName the package to scan, such as {@code com.example.config}
+     * @param loader the loader to find the classes with
+     * @return the config classes
+     * @throws IOException if the class path cannot be read
+     */
+    static List<Class<?>> scan(String packageName, ClassLoader loader) throws IOException {
+        String directory = packageName.replace('.', '/');
+        Set<String> names = new TreeSet<>();
+        Enumeration<URL> resources = loader.getResources(directory);
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+            if ("file".equals(resource.getProtocol())) {
+                Path root;
+                try {
+                    root = Paths.get(resource.toURI());
+                } catch (URISyntaxException e) {
+                    throw new IOException("Cannot read " + resource, e);
+                }
+                try (Stream<Path> files = Files.walk(root)) {
+                    files.map(root::relativize).map(Path::toString).filter(name -> name.endsWith(".class")).forEach(name -> names.add(directory + "/" + name.replace(File.separatorChar, '/')));
+                }
+            } else if ("jar".equals(resource.getProtocol())) {
+                JarURLConnection connection = (JarURLConnection) resource.openConnection();
+                connection.setUseCaches(false);
+                try (JarFile jar = connection.getJarFile()) {
+                    Enumeration<JarEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        String name = entries.nextElement().getName();
+                        if (name.startsWith(directory + "/") && name.endsWith(".class")) {
+                            names.add(name);
+                        }
+                    }
+                }
+            }
+        }
+        List<Class<?>> types = new ArrayList<>();
+        for (String name : names) {
+            String className = name.substring(0, name.length() - ".class".length()).replace('/', '.');
+            if (className.endsWith("module-info") || className.endsWith("package-info")) {
+                continue;
+            }
+            Class<?> type;
+            try {
+                type = Class.forName(className, false, loader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                continue;
+            }
+            if (hasConfigConstructor(type)) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    private static boolean hasConfigConstructor(Class<?> type) {
+        try {
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                if (constructor.isAnnotationPresent(ConfigConstructor.class)) {
+                    return true;
+                }
+            }
+        } catch (LinkageError e) {
+            //a dependency of the class is missing, it cannot be a usable config
+        }
+        return false;
+    }
+
+    private void prepareClass(Class<?> type, List<Class<?>> nested) {
+        ClassModel model;
+        try {
+            model = ClassModel.of(type);
+        } catch (RuntimeException | LinkageError e) {
+            this.issue(type, null, PrepareReport.Code.INACCESSIBLE, "cannot be inspected: " + e);
+            return;
+        }
+        if (!model.isAutoSerializable()) {
+            this.issue(type, null, PrepareReport.Code.MISSING_CONSTRUCTOR, "has no constructor annotated with @ConfigConstructor");
+            return;
+        }
+        try {
+            model.constructor();
+        } catch (RuntimeException e) {
+            this.issue(type, null, PrepareReport.Code.INACCESSIBLE, "constructor cannot be accessed: " + e.getMessage());
+        }
+        SerializerRegistry registry;
+        try {
+            registry = this.registry.scopedTo(type);
+        } catch (RuntimeException e) {
+            this.issue(type, null, PrepareReport.Code.INVALID_SERIALIZER, e.getMessage());
+            registry = this.registry;
+        }
+        for (ClassModel.FieldModel field : model.fields()) {
+            if (!field.accessor().isAccessible()) {
+                this.issue(type, field.name(), PrepareReport.Code.INACCESSIBLE, "cannot be read, serializing " + type.getSimpleName() + " will fail");
+            }
+            this.prepareField(type, field, registry, nested);
+        }
+    }
+
+    private void prepareField(Class<?> owner, ClassModel.FieldModel field, SerializerRegistry registry, List<Class<?>> nested) {
+        if (field.serializerType() != null) {
+            try {
+                field.serializer();
+            } catch (RuntimeException e) {
+                this.issue(owner, field.name(), PrepareReport.Code.INVALID_SERIALIZER, e.getMessage());
+            }
+            return;
+        }
+        if (field.autoType() != null) {
+            nested.add(field.autoType());
+            return;
+        }
+        Class<?> type = field.lazyType() == null ? field.type() : field.lazyType();
+        Class<?> listType = field.listType();
+        if (Collection.class.isAssignableFrom(type)) {
+            if (listType != null && !listType.isPrimitive() && !isNative(listType)) {
+                nested.add(listType);
+            }
+            return;
+        }
+        if (isNative(type) || (type.isArray() && type.getComponentType().isPrimitive())) {
+            return;
+        }
+        if (ClassModel.of(type).isAutoSerializable()) {
+            nested.add(type);
+            return;
+        }
+        if (!registry.find(type).isPresent()) {
+            this.issue(owner, field.name(), PrepareReport.Code.MISSING_SERIALIZER, "has no serializer for " + type.getSimpleName());
+        }
+    }
+
+    private static boolean isNative(Class<?> type) {
+        return type.isPrimitive()
+                || type.isAssignableFrom(String.class)
+                || Number.class.isAssignableFrom(type)
+                || type == Boolean.class
+                || type == Character.class
+                || Map.class.isAssignableFrom(type);
+    }
+
+    private void issue(Class<?> type, String field, PrepareReport.Code code, String message) {
+        this.issues.add(new PrepareReport.Issue(type, field, code, message));
+    }
+
+    private final class ClassTask extends RecursiveAction {
+
+        private final Class<?> type;
+
+        private ClassTask(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        protected void compute() {
+            long start = System.nanoTime();
+            List<Class<?>> nested = new ArrayList<>();
+            prepareClass(this.type, nested);
+            timings.put(this.type, Duration.ofNanos(System.nanoTime() - start));
+            List<ClassTask> tasks = new ArrayList<>(nested.size());
+            for (Class<?> nestedType : nested) {
+                if (seen.add(nestedType)) {
+                    tasks.add(new ClassTask(nestedType));
+                }
+            }
+            invokeAll(tasks);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.easy.config.auto;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * The outcome of {@link AutoSerializer#prepare(Class[])}: how long each config class took to prepare and every
+ * misconfiguration found on the way
+ */
+public final class PrepareReport {
+
+    public enum Code {
+        /**
+         * The class has no constructor annotated with {@link org.easy.config.auto.annotations.ConfigConstructor}
+         */
+        MISSING_CONSTRUCTOR,
+        /**
+         * No serializer is registered for the type of a field
+         */
+        MISSING_SERIALIZER,
+        /**
+         * A serializer referenced by an annotation cannot be created
+         */
+        INVALID_SERIALIZER,
+        /**
+         * The constructor or a field cannot be accessed
+         */
+        INACCESSIBLE
+    }
+
+    private final Map<Class<?>, Duration> timings;
+    private final List<Issue> issues;
+    private final Duration elapsed;
+    private final SerializerRegistry registry;
+
+    PrepareReport(SerializerRegistry registry, Map<Class<?>, Duration> timings, Collection<Issue> issues, Duration elapsed) {
+        this.registry = registry;
+        List<Map.Entry<Class<?>, Duration>> entries = new ArrayList<>(timings.entrySet());
+        entries.sort(Map.Entry.<Class<?>, Duration>comparingByValue().reversed());
+        Map<Class<?>, Duration> sorted = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, Duration> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue());
+        }
+        List<Issue> sortedIssues = new ArrayList<>(issues);
+        sortedIssues.sort(Comparator.comparing((Issue issue) -> issue.type().getName()).thenComparing(issue -> issue.field() == null ? "" : issue.field()));
+        this.timings = Collections.unmodifiableMap(sorted);
+        this.issues = Collections.unmodifiableList(sortedIssues);
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Gets the registry whose serializer lookups were resolved. Only serializers created with this registry, such as
+     * {@code new AutoSerializer<>(type, report.registry())}, benefit from those lookups
+     *
+     * @return the prepared registry
+     */
+    public SerializerRegistry registry() {
+        return this.registry;
+    }
+
+    public boolean isValid() {
+        return this.issues.isEmpty();
+    }
+
+    /**
+     * Gets the classes that were prepared, including the nested configs they reference, slowest first
+     *
+     * @return the time spent preparing each class
+     */
+    public Map<Class<?>, Duration> timings() {
+        return this.timings;
+    }
+
+    public List<Issue> issues() {
+        return this.issues;
+    }
+
+    /**
+     * @return the wall clock time of the whole preparation
+     */
+    public Duration elapsed() {
+        return this.elapsed;
+    }
+
+    @Override
+    public String toString() {
+        String summary = "Prepared " + this.timings.size() + " classes in " + this.elapsed.toMillis() + "ms";
+        if (this.issues.isEmpty()) {
+            return summary;
+        }
+        return summary + "\n" + this.issues.stream().map(Issue::toString).collect(Collectors.joining("\n"));
+    }
+
+    public static final class Issue {
+
+        private final Class<?> type;
+        private final String field;
+        private final Code code;
+        private final String message;
+
+        Issue(Class<?> type, String field, Code code, String message) {
+            this.type = type;
+            this.field = field;
+            this.code = code;
+            this.message = message;
+        }
+
+        public Class<?> type() {
+            return this.type;
+        }
+
+        /**
+         * @return the name of the field or null if the issue is with the class itself
+         */
+        public String field() {
+            return this.field;
+        }
+
+        public Code code() {
+            return this.code;
+        }
+
+        public String message() {
+            return this.message;
+        }
+
+        @Override
+        public String toString() {
+            return this.code + ": " + this.type.getSimpleName() + (this.field == null ? "" : "." + this.field) + " " + this.message;
+        }
+    }
+}
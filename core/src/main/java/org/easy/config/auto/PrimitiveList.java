@@ -0,0 +1,196 @@
+package org.easy.config.auto;
+
+import org.easy.config.stream.Token;
+import org.easy.config.stream.TokenReader;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A read only list backed by a primitive array. Values are only boxed when read, so serializing a large {@code double[]}
+ * does not copy it into a list of {@link Double}
+ */
+final class PrimitiveList extends AbstractList<Object> implements RandomAccess {
+
+    private final Object array;
+    private final int size;
+
+    private PrimitiveList(Object array) {
+        this.array = array;
+        this.size = Array.getLength(array);
+    }
+
+    /**
+     * Wraps a primitive array without copying it
+     *
+     * @param array the primitive array
+     * @return the list view
+     */
+    static PrimitiveList of(Object array) {
+        return new PrimitiveList(array);
+    }
+
+    static boolean isPrimitiveArray(Class<?> type) {
+        return type.isArray() && type.getComponentType().isPrimitive();
+    }
+
+    @Override
+    public Object get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.size);
+        }
+        Object array = this.array;
+        if (array instanceof int[]) {
+            return ((int[]) array)[index];
+        }
+        if (array instanceof long[]) {
+            return ((long[]) array)[index];
+        }
+        if (array instanceof double[]) {
+            return ((double[]) array)[index];
+        }
+        return Array.get(array, index);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Converts numbers, or other values, into a new primitive array. Numbers are converted the same way as for
+     * constructor parameters
+     *
+     * @param componentType the primitive type of the array
+     * @param values the values
+     * @return the new array
+     * @throws IllegalArgumentException if a value does not fit the primitive type
+     */
+    static Object toArray(Class<?> componentType, Collection<?> values) {
+        if (values instanceof PrimitiveList && ((PrimitiveList) values).array.getClass().getComponentType() == componentType) {
+            PrimitiveList list = (PrimitiveList) values;
+            Object copy = Array.newInstance(componentType, list.size);
+            System.arraycopy(list.array, 0, copy, 0, list.size);
+            return copy;
+        }
+        Object array = Array.newInstance(componentType, values.size());
+        Kind kind = Kind.of(componentType);
+        NumberCoercion coercion = NumberCoercion.of(componentType, false);
+        int index = 0;
+        for (Object value : values) {
+            store(array, kind, coercion, index++, value);
+        }
+        return array;
+    }
+
+    /**
+     * Reads an array of scalars straight into a primitive array
+     *
+     * @param reader the reader positioned on the array
+     * @param componentType the primitive type of the array
+     * @return the new array
+     * @throws Exception if the reader fails or a value does not fit the primitive type
+     */
+    static Object read(TokenReader reader, Class<?> componentType) throws Exception {
+        if (reader.next() != Token.BEGIN_ARRAY) {
+            throw new IllegalArgumentException("Expected an array of " + componentType.getSimpleName());
+        }
+        Object array = Array.newInstance(componentType, 16);
+        Kind kind = Kind.of(componentType);
+        NumberCoercion coercion = NumberCoercion.of(componentType, false);
+        int size = 0;
+        Token token;
+        while ((token = reader.next()) == Token.SCALAR) {
+            if (size == Array.getLength(array)) {
+                Object grown = Array.newInstance(componentType, size * 2);
+                System.arraycopy(array, 0, grown, 0, size);
+                array = grown;
+            }
+            store(array, kind, coercion, size++, reader.scalar());
+        }
+        if (token != Token.END_ARRAY) {
+            throw new IllegalArgumentException("Expected only values in an array of " + componentType.getSimpleName() + " but found " + token);
+        }
+        Object trimmed = Array.newInstance(componentType, size);
+        System.arraycopy(array, 0, trimmed, 0, size);
+        return trimmed;
+    }
+
+    /**
+     * Stores one value. Values that already are the boxed component type, or a smaller one that widens to it, are
+     * stored without going through the number coercion
+     */
+    private static void store(Object array, Kind kind, NumberCoercion coercion, int index, Object value) {
+        try {
+            switch (kind) {
+                case INT:
+                    ((int[]) array)[index] = value instanceof Integer ? (Integer) value : GeneratedSerializer.asInt(coerce(coercion, value));
+                    break;
+                case LONG:
+                    ((long[]) array)[index] = value instanceof Long || value instanceof Integer ? ((Number) value).longValue() : GeneratedSerializer.asLong(coerce(coercion, value));
+                    break;
+                case DOUBLE:
+                    ((double[]) array)[index] = value instanceof Double || value instanceof Integer ? ((Number) value).doubleValue() : GeneratedSerializer.asDouble(coerce(coercion, value));
+                    break;
+                case FLOAT:
+                    ((float[]) array)[index] = value instanceof Float || value instanceof Integer ? ((Number) value).floatValue() : GeneratedSerializer.asFloat(coerce(coercion, value));
+                    break;
+                case SHORT:
+                    ((short[]) array)[index] = value instanceof Short ? (Short) value : GeneratedSerializer.asShort(coerce(coercion, value));
+                    break;
+                case BYTE:
+                    ((byte[]) array)[index] = value instanceof Byte ? (Byte) value : GeneratedSerializer.asByte(coerce(coercion, value));
+                    break;
+                case CHAR:
+                    ((char[]) array)[index] = GeneratedSerializer.asChar(value);
+                    break;
+                default:
+                    ((boolean[]) array)[index] = GeneratedSerializer.asBoolean(value);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Element " + index + " does not fit " + array.getClass().getComponentType().getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static Object coerce(NumberCoercion coercion, Object value) {
+        if (!coercion.accepts(value)) {
+            return value;
+        }
+        Object coerced = coercion.coerce(value);
+        if (coerced == NumberCoercion.OUT_OF_RANGE) {
+            throw new IllegalArgumentException("Value is out of range: " + value);
+        }
+        return coerced == NumberCoercion.MISMATCH ? value : coerced;
+    }
+
+    private enum Kind {
+        INT, LONG, DOUBLE, FLOAT, SHORT, BYTE, CHAR, BOOLEAN;
+
+        private static Kind of(Class<?> componentType) {
+            if (componentType == int.class) {
+                return INT;
+            }
+            if (componentType == long.class) {
+                return LONG;
+            }
+            if (componentType == double.class) {
+                return DOUBLE;
+            }
+            if (componentType == float.class) {
+                return FLOAT;
+            }
+            if (componentType == short.class) {
+                return SHORT;
+            }
+            if (componentType == byte.class) {
+                return BYTE;
+            }
+            if (componentType == char.class) {
+                return CHAR;
+            }
+            return BOOLEAN;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.easy.config.auto;
+
+import java.util.*;
+
+/**
+ * Tracks the configs seen during one serialize or deserialize when {@link AutoSerializer#withReferences()} is used.
+ * <p>
+ * When serializing, the first occurrence of a config is written in full and every later occurrence of the same instance
+ * is written as {@code {"$ref": id}}. The id is added to the first occurrence as {@code "$id"} once it is referenced, so
+ * configs that are not shared stay unchanged. When deserializing, a config holding {@code "$id"} is remembered once
+ * created and every {@code "$ref"} to it resolves to that same instance
+ */
+final class References {
+
+    private final Map<Object, Map<String, Object>> written = new IdentityHashMap<>();
+    private final Map<Object, Object> writtenIds = new IdentityHashMap<>();
+    private final Set<Object> writing = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<String, Object> read = new HashMap<>();
+    private int nextId = 1;
+
+    /**
+     * Gets the reference to write instead of a config that was already written
+     *
+     * @param value the config
+     * @return the reference or null if the config has not been written yet
+     */
+    Map<String, Object> referenceTo(Object value) {
+        Map<String, Object> map = this.written.get(value);
+        if (map == null) {
+            if (this.writing.contains(value)) {
+                throw new IllegalArgumentException("Cannot serialize " + value.getClass().getSimpleName() + " as it references itself through its fields");
+            }
+            return null;
+        }
+        Object id = this.writtenIds.get(value);
+        if (id == null) {
+            id = this.nextId++;
+            this.writtenIds.put(value, id);
+            map.put(AutoSerializer.ID_KEY, id);
+        }
+        return Collections.singletonMap(AutoSerializer.REFERENCE_KEY, id);
+    }
+
+    void enter(Object value) {
+        this.writing.add(value);
+    }
+
+    void exit(Object value, Map<String, Object> map) {
+        this.writing.remove(value);
+        if (map != null) {
+            this.written.put(value, map);
+        }
+    }
+
+    void register(Object id, Object value) {
+        if (this.read.putIfAbsent(String.valueOf(id), value) != null) {
+            throw new IllegalArgumentException("Duplicate " + AutoSerializer.ID_KEY + " " + id);
+        }
+    }
+
+    Object resolve(Object id, Class<?> type) {
+        Object value = this.read.get(String.valueOf(id));
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown " + AutoSerializer.REFERENCE_KEY + " " + id + ", a reference must follow the config it refers to and cannot point to a config that contains it");
+        }
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException(AutoSerializer.REFERENCE_KEY + " " + id + " refers to " + value.getClass().getSimpleName() + " but " + type.getSimpleName() + " was expected");
+        }
+        return value;
+    }
+}
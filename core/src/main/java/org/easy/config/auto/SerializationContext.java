@@ -0,0 +1,88 @@
+package org.easy.config.auto;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * State shared by every nested config of a single serialize, deserialize, read or update call. Nested configs and list
+ * elements reuse one serializer per class and registry instead of creating one each, and the parameter array of each
+ * nesting level and size is reused once the config of that level has been constructed.
+ * <p>
+ * A context is confined to the thread of the call and dropped when it returns
+ */
+final class SerializationContext {
+
+    private final AutoSerializer<?> root;
+    private References references;
+    private final Map<SerializerRegistry, Map<Class<?>, AutoSerializer<?>>> serializers = new IdentityHashMap<>(4);
+    private Object[][][] parameters = new Object[8][][];
+    private int depth;
+
+    SerializationContext(AutoSerializer<?> root) {
+        this.root = root;
+    }
+
+    /**
+     * Gets the configs seen so far, only used by serializers created with {@link AutoSerializer#withReferences()}
+     *
+     * @return the references of this context
+     */
+    References references() {
+        if (this.references == null) {
+            this.references = new References();
+        }
+        return this.references;
+    }
+
+    /**
+     * Gets the serializer of a nested config, created on first use with the settings of the root serializer
+     *
+     * @param type the nested config class
+     * @param registry the registry of the config holding it
+     * @return the serializer
+     */
+    <V> AutoSerializer<V> serializer(Class<?> type, SerializerRegistry registry) {
+        Map<Class<?>, AutoSerializer<?>> byType = this.serializers.get(registry);
+        if (byType == null) {
+            byType = new IdentityHashMap<>();
+            this.serializers.put(registry, byType);
+        }
+        AutoSerializer<?> serializer = byType.get(type);
+        if (serializer == null) {
+            serializer = this.root.nested(type, registry);
+            byType.put(type, serializer);
+        }
+        return (AutoSerializer<V>) serializer;
+    }
+
+    /**
+     * Gets an empty parameter array for the next nesting level, which must be handed back to
+     * {@link #release(Object[])} once the config has been constructed
+     *
+     * @param size the number of parameters
+     * @return the array
+     */
+    Object[] acquire(int size) {
+        if (this.depth == this.parameters.length) {
+            this.parameters = Arrays.copyOf(this.parameters, this.depth * 2);
+        }
+        Object[][] bySize = this.parameters[this.depth];
+        if (bySize == null || bySize.length <= size) {
+            bySize = bySize == null ? new Object[size + 1][] : Arrays.copyOf(bySize, size + 1);
+            this.parameters[this.depth] = bySize;
+        }
+        Object[] values = bySize[size];
+        if (values == null) {
+            values = new Object[size];
+            bySize[size] = values;
+        }
+        this.depth++;
+        return values;
+    }
+
+    void release(Object[] values) {
+        Arrays.fill(values, null);
+        this.depth--;
+    }
+}
@@ -0,0 +1,56 @@
+package org.easy.config.auto;
+
+import org.easy.config.Serializer;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Creates the serializers referenced by annotations. Each serializer class is created once and shared, unless it
+ * implements {@link Serializer.Stateful}
+ */
+final class SerializerInstances {
+
+    private static final ClassValue<Object> INSTANCES = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            Constructor<?> constructor = constructorOf(type);
+            if (isStateful(type)) {
+                return constructor;
+            }
+            return create(constructor);
+        }
+    };
+
+    private SerializerInstances() {
+    }
+
+    static boolean isStateful(Class<?> type) {
+        return Serializer.Stateful.class.isAssignableFrom(type);
+    }
+
+    static Serializer<?, ?> get(Class<? extends Serializer<?, ?>> type) {
+        Object instance = INSTANCES.get(type);
+        if (instance instanceof Constructor) {
+            return create((Constructor<?>) instance);
+        }
+        return (Serializer<?, ?>) instance;
+    }
+
+    private static Constructor<?> constructorOf(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Serializer " + type.getSimpleName() + " requires a constructor without parameters", e);
+        }
+    }
+
+    private static Serializer<?, ?> create(Constructor<?> constructor) {
+        try {
+            return (Serializer<?, ?>) constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create serializer of " + constructor.getDeclaringClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.easy.config.auto;
+
+import org.easy.config.Serializer;
+import org.easy.config.common.CommonJavaSerializers;
+import org.easy.config.jfr.ConfigEvents;
+import org.easy.config.metrics.ConfigMetrics;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the most specific {@link Serializer} for a type. The class itself is checked first, then its superclasses,
+ * then the interfaces of all of those breadth first in declaration order and finally {@link Object}. When two
+ * serializers share the same type, the first registered wins. Each resolution is cached per class
+ */
+public final class SerializerRegistry {
+
+    private final List<Serializer<?, ?>> serializers;
+    private final Map<Class<?>, Serializer<?, ?>> byType;
+    private final Map<Class<?>, Serializer<?, ?>> byTypeKeyValue;
+    private final Map<Class<?>, Serializer<?, ?>> byTypeText;
+    private final ConfigMetrics metrics;
+    private final ClassValue<Optional<Serializer<?, ?>>> resolved = new ClassValue<Optional<Serializer<?, ?>>>() {
+        @Override
+        protected Optional<Serializer<?, ?>> computeValue(Class<?> type) {
+            metrics.serializerResolved(type);
+            return resolveRecorded(type, byType);
+        }
+    };
+    private final ClassValue<Optional<Serializer<?, ?>>> resolvedKeyValue = new ClassValue<Optional<Serializer<?, ?>>>() {
+        @Override
+        protected Optional<Serializer<?, ?>> computeValue(Class<?> type) {
+            metrics.serializerResolved(type);
+            return resolveRecorded(type, byTypeKeyValue);
+        }
+    };
+    private final ClassValue<Optional<Serializer<?, ?>>> resolvedText = new ClassValue<Optional<Serializer<?, ?>>>() {
+        @Override
+        protected Optional<Serializer<?, ?>> computeValue(Class<?> type) {
+            metrics.serializerResolved(type);
+            return resolveRecorded(type, byTypeText);
+        }
+    };
+    private final ClassValue<SerializerRegistry> scopes = new ClassValue<SerializerRegistry>() {
+        @Override
+        protected SerializerRegistry computeValue(Class<?> type) {
+            return scope(type);
+        }
+    };
+
+    public SerializerRegistry(Collection<? extends Serializer<?, ?>> serializers) {
+        this(serializers, ConfigMetrics.NONE);
+    }
+
+    private SerializerRegistry(Collection<? extends Serializer<?, ?>> serializers, ConfigMetrics metrics) {
+        this.metrics = metrics;
+        this.serializers = Collections.unmodifiableList(new ArrayList<>(serializers));
+        this.byType = new HashMap<>();
+        this.byTypeKeyValue = new HashMap<>();
+        this.byTypeText = new HashMap<>();
+        for (Serializer<?, ?> serializer : this.serializers) {
+            this.byType.putIfAbsent(serializer.ofType(), serializer);
+            if (serializer instanceof Serializer.KeyValue) {
+                this.byTypeKeyValue.putIfAbsent(serializer.ofType(), serializer);
+            }
+            if (serializer instanceof Serializer.Text) {
+                this.byTypeText.putIfAbsent(serializer.ofType(), serializer);
+            }
+        }
+    }
+
+    /**
+     * Creates a registry of the provided serializers, followed by {@link CommonJavaSerializers#serializers()}
+     *
+     * @param serializers the serializers that take priority over the common ones
+     * @return the new registry
+     */
+    public static SerializerRegistry withCommon(Collection<? extends Serializer<?, ?>> serializers) {
+        List<Serializer<?, ?>> all = Stream
+                .concat(serializers.stream(), CommonJavaSerializers.serializers())
+                .collect(Collectors.toList());
+        return new SerializerRegistry(all);
+    }
+
+    public List<Serializer<?, ?>> serializers() {
+        return this.serializers;
+    }
+
+    public Optional<Serializer<?, ?>> find(Class<?> type) {
+        this.metrics.serializerLookup(type);
+        return this.resolved.get(type);
+    }
+
+    /**
+     * Finds the most specific serializer of the type that reads values of the provided form
+     *
+     * @param type the type to serialize
+     * @param form either {@link Serializer.KeyValue} or {@link Serializer.Text}
+     * @return the serializer or empty if none reads that form
+     */
+    public Optional<Serializer<?, ?>> find(Class<?> type, Class<?> form) {
+        this.metrics.serializerLookup(type);
+        if (form == Serializer.KeyValue.class) {
+            return this.resolvedKeyValue.get(type);
+        }
+        if (form == Serializer.Text.class) {
+            return this.resolvedText.get(type);
+        }
+        throw new IllegalArgumentException("Unknown serializer form " + form.getSimpleName());
+    }
+
+    /**
+     * Creates a registry where the provided serializers take priority over the ones of this registry
+     *
+     * @param serializers the serializers to place first
+     * @return the new registry
+     */
+    public SerializerRegistry with(Collection<? extends Serializer<?, ?>> serializers) {
+        if (serializers.isEmpty()) {
+            return this;
+        }
+        List<Serializer<?, ?>> all = new ArrayList<>(serializers.size() + this.serializers.size());
+        all.addAll(serializers);
+        all.addAll(this.serializers);
+        return new SerializerRegistry(all, this.metrics);
+    }
+
+    /**
+     * Creates a registry of the same serializers that reports lookups to the metrics, including the registries it
+     * creates
+     *
+     * @param metrics the metrics to report to
+     * @return the new registry
+     */
+    public SerializerRegistry withMetrics(ConfigMetrics metrics) {
+        if (metrics == this.metrics) {
+            return this;
+        }
+        return new SerializerRegistry(this.serializers, metrics);
+    }
+
+    /**
+     * Gets the registry used while (de)serializing the provided type, which adds the serializers listed in its
+     * {@link org.easy.config.auto.annotations.ConfigConstructor}
+     */
+    SerializerRegistry scopedTo(Class<?> owner) {
+        if (ClassModel.of(owner).hasStatefulSerializers()) {
+            return scope(owner);
+        }
+        return this.scopes.get(owner);
+    }
+
+    private SerializerRegistry scope(Class<?> owner) {
+        List<Class<? extends Serializer<?, ?>>> types = ClassModel.of(owner).serializerTypes();
+        if (types.isEmpty()) {
+            return this;
+        }
+        List<Serializer<?, ?>> serializers = new ArrayList<>(types.size());
+        for (Class<? extends Serializer<?, ?>> type : types) {
+            serializers.add(SerializerInstances.get(type));
+        }
+        return this.with(serializers);
+    }
+
+    private static Optional<Serializer<?, ?>> resolveRecorded(Class<?> type, Map<Class<?>, Serializer<?, ?>> byType) {
+        Object event = ConfigEvents.beginResolve();
+        Serializer<?, ?> serializer = resolve(type, byType);
+        ConfigEvents.endResolve(event, type, serializer == null ? null : serializer.getClass());
+        return Optional.ofNullable(serializer);
+    }
+
+    private static Serializer<?, ?> resolve(Class<?> type, Map<Class<?>, Serializer<?, ?>> byType) {
+        Serializer<?, ?> serializer;
+        Deque<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> targetType = type; targetType != null && targetType != Object.class; targetType = targetType.getSuperclass()) {
+            serializer = byType.get(targetType);
+            if (serializer != null) {
+                return serializer;
+            }
+            interfaces.addAll(Arrays.asList(targetType.getInterfaces()));
+        }
+        Set<Class<?>> visited = new HashSet<>();
+        while (!interfaces.isEmpty()) {
+            Class<?> targetType = interfaces.poll();
+            if (!visited.add(targetType)) {
+                continue;
+            }
+            serializer = byType.get(targetType);
+            if (serializer != null) {
+                return serializer;
+            }
+            interfaces.addAll(Arrays.asList(targetType.getInterfaces()));
+        }
+        return byType.get(Object.class);
+    }
+}
@@ -0,0 +1,142 @@
+package org.easy.config.auto;
+
+/**
+ * A single problem found by {@link AutoSerializer#validate(java.util.Map)}. The path and message are only formatted
+ * when asked for
+ */
+public final class ValidationError {
+
+    public enum Code {
+        /**
+         * A required key has no value
+         */
+        MISSING,
+        /**
+         * The value cannot be converted into the type of the field
+         */
+        TYPE_MISMATCH,
+        /**
+         * The number does not fit the type of the field
+         */
+        OUT_OF_RANGE,
+        /**
+         * The serializer of the field rejected the value
+         */
+        INVALID_VALUE,
+        /**
+         * The field type cannot be deserialized from this kind of value
+         */
+        UNSUPPORTED_TYPE
+    }
+
+    private final Path path;
+    private final Code code;
+    private final Class<?> expected;
+    private final Object value;
+    private final Exception cause;
+
+    ValidationError(Path path, Code code, Class<?> expected, Object value, Exception cause) {
+        this.path = path;
+        this.code = code;
+        this.expected = expected;
+        this.value = value;
+        this.cause = cause;
+    }
+
+    /**
+     * Gets the location of the value, for example {@code servers[3].port}
+     *
+     * @return the path or an empty string for the root
+     */
+    public String path() {
+        return this.path == null ? "" : this.path.toString();
+    }
+
+    public Code code() {
+        return this.code;
+    }
+
+    public Class<?> expected() {
+        return this.expected;
+    }
+
+    public Object value() {
+        return this.value;
+    }
+
+    /**
+     * Gets the exception thrown by the serializer of the field
+     *
+     * @return the exception or null if none was thrown
+     */
+    public Exception cause() {
+        return this.cause;
+    }
+
+    public String message() {
+        String name = this.path == null ? this.expected.getSimpleName() : this.path.toString();
+        String valueName = this.value == null ? "null" : this.value.getClass().getSimpleName();
+        switch (this.code) {
+            case MISSING:
+                return name + " is missing";
+            case TYPE_MISMATCH:
+                return name + " expected " + this.expected.getSimpleName() + " but was " + valueName;
+            case OUT_OF_RANGE:
+                return name + " is out of range of " + this.expected.getSimpleName() + ": " + this.value;
+            case INVALID_VALUE:
+                return name + " is not a valid " + this.expected.getSimpleName() + ": " + (this.cause == null ? valueName : this.cause.getMessage());
+            default:
+                return name + " of " + this.expected.getSimpleName() + " cannot be read from " + valueName;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.code + ": " + this.message();
+    }
+
+    /**
+     * A link of a path, holding either a key or a list index
+     */
+    static final class Path {
+
+        private final Path parent;
+        private final String key;
+        private final int index;
+
+        private Path(Path parent, String key, int index) {
+            this.parent = parent;
+            this.key = key;
+            this.index = index;
+        }
+
+        static Path of(Path parent, String key) {
+            return new Path(parent, key, -1);
+        }
+
+        static Path of(Path parent, int index) {
+            return new Path(parent, null, index);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            this.append(builder);
+            return builder.toString();
+        }
+
+        private void append(StringBuilder builder) {
+            if (this.parent != null) {
+                this.parent.append(builder);
+            }
+            if (this.key == null) {
+                builder.append('[').append(this.index).append(']');
+                return;
+            }
+            if (builder.length() != 0) {
+                builder.append('.');
+            }
+            builder.append(this.key);
+        }
+    }
+}
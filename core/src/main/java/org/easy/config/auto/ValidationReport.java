@@ -0,0 +1,41 @@
+package org.easy.config.auto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Every problem found while checking a map against a config class, see {@link AutoSerializer#validate(java.util.Map)}
+ */
+public final class ValidationReport {
+
+    private final List<ValidationError> errors = new ArrayList<>();
+
+    ValidationReport() {
+    }
+
+    void add(ValidationError.Path path, ValidationError.Code code, Class<?> expected, Object value) {
+        this.add(path, code, expected, value, null);
+    }
+
+    void add(ValidationError.Path path, ValidationError.Code code, Class<?> expected, Object value, Exception cause) {
+        this.errors.add(new ValidationError(path, code, expected, value, cause));
+    }
+
+    public boolean isValid() {
+        return this.errors.isEmpty();
+    }
+
+    public List<ValidationError> errors() {
+        return Collections.unmodifiableList(this.errors);
+    }
+
+    @Override
+    public String toString() {
+        if (this.errors.isEmpty()) {
+            return "Valid";
+        }
+        return this.errors.stream().map(ValidationError::toString).collect(Collectors.joining("\n"));
+    }
+}
@@ -21,4 +21,9 @@ public @interface ConfigField {
 
     boolean optional() default false;
 
+    /**
+     * Parses string values into the number type of the field, for example {@code "8080"} into an {@code int}
+     */
+    boolean parseNumbers() default false;
+
 }
@@ -0,0 +1,33 @@
+package org.easy.config.common;
+
+import org.easy.config.Serializer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+public final class CommonJavaSerializers {
+
+    public static final FileSerializer FILE = new FileSerializer();
+    public static final LocalDateSerializer DATE = new LocalDateSerializer();
+    public static final LocalTimeSerializer TIME = new LocalTimeSerializer();
+    public static final LocalDateTimeSerializer DATE_TIME = new LocalDateTimeSerializer();
+    public static final IsoLocalDateSerializer ISO_DATE = new IsoLocalDateSerializer();
+    public static final IsoLocalTimeSerializer ISO_TIME = new IsoLocalTimeSerializer();
+    public static final IsoLocalDateTimeSerializer ISO_DATE_TIME = new IsoLocalDateTimeSerializer();
+
+    //the map forms come first, so they stay the default of each type
+    private static final List<Serializer<?, ?>> SERIALIZERS = Collections.unmodifiableList(Arrays.asList(
+            FILE,
+            DATE,
+            TIME,
+            DATE_TIME,
+            ISO_DATE,
+            ISO_TIME,
+            ISO_DATE_TIME));
+
+    public static Stream<Serializer<?, ?>> serializers() {
+        return SERIALIZERS.stream();
+    }
+}
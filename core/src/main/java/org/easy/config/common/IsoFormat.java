@@ -0,0 +1,130 @@
+package org.easy.config.common;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Parses ISO-8601 dates and times by hand, which avoids the intermediate objects of a
+ * {@link java.time.format.DateTimeFormatter}. Writing uses the {@code toString} of the java.time types, which already
+ * produce ISO-8601
+ */
+final class IsoFormat {
+
+    private IsoFormat() {
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd}, with an optional sign and more digits for years outside 0000 to 9999
+     */
+    static LocalDate parseDate(String text) {
+        return parseDate(text, 0, text.length());
+    }
+
+    static LocalTime parseTime(String text) {
+        return parseTime(text, 0, text.length());
+    }
+
+    static LocalDate parseDate(String text, int from, int to) {
+        int index = from;
+        boolean negative = false;
+        if (index < to && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+            negative = text.charAt(index) == '-';
+            index++;
+        }
+        int yearStart = index;
+        while (index < to && isDigit(text.charAt(index))) {
+            index++;
+        }
+        int yearDigits = index - yearStart;
+        if (yearDigits < 4 || yearDigits > 9 || (yearDigits > 4 && index - from == yearDigits)) {
+            throw invalid("date", text, from, to);
+        }
+        int year = digits(text, yearStart, index);
+        if (to - index != 6 || text.charAt(index) != '-' || text.charAt(index + 3) != '-') {
+            throw invalid("date", text, from, to);
+        }
+        int month = twoDigits(text, index + 1, "date", from, to);
+        int day = twoDigits(text, index + 4, "date", from, to);
+        try {
+            return LocalDate.of(negative ? -year : year, month, day);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses {@code HH:mm}, {@code HH:mm:ss} or {@code HH:mm:ss.fraction} with up to nine fraction digits
+     */
+    static LocalTime parseTime(String text, int from, int to) {
+        int length = to - from;
+        if (length < 5 || text.charAt(from + 2) != ':') {
+            throw invalid("time", text, from, to);
+        }
+        int hour = twoDigits(text, from, "time", from, to);
+        int minute = twoDigits(text, from + 3, "time", from, to);
+        int second = 0;
+        int nano = 0;
+        if (length > 5) {
+            if (length < 8 || text.charAt(from + 5) != ':') {
+                throw invalid("time", text, from, to);
+            }
+            second = twoDigits(text, from + 6, "time", from, to);
+            if (length > 8) {
+                int fractionDigits = length - 9;
+                if (text.charAt(from + 8) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+                    throw invalid("time", text, from, to);
+                }
+                nano = digits(text, from + 9, to);
+                if (nano < 0) {
+                    throw invalid("time", text, from, to);
+                }
+                for (int i = fractionDigits; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        try {
+            return LocalTime.of(hour, minute, second, nano);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    static int indexOfTime(String text) {
+        int index = text.indexOf('T');
+        if (index == -1) {
+            throw invalid("date time", text, 0, text.length());
+        }
+        return index;
+    }
+
+    private static int twoDigits(String text, int index, String kind, int from, int to) {
+        char first = text.charAt(index);
+        char second = text.charAt(index + 1);
+        if (!isDigit(first) || !isDigit(second)) {
+            throw invalid(kind, text, from, to);
+        }
+        return (first - '0') * 10 + (second - '0');
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char character = text.charAt(i);
+            if (!isDigit(character)) {
+                return -1;
+            }
+            value = value * 10 + (character - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static IllegalArgumentException invalid(String kind, String text, int from, int to) {
+        return new IllegalArgumentException("'" + text.substring(from, to) + "' is not an ISO-8601 " + kind);
+    }
+}
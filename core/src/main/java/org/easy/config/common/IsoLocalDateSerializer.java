@@ -0,0 +1,26 @@
+package org.easy.config.common;
+
+import org.easy.config.Serializer;
+
+import java.time.LocalDate;
+
+/**
+ * Reads and writes a {@link LocalDate} as an ISO-8601 string, for example {@code 2020-02-29}
+ */
+public class IsoLocalDateSerializer implements Serializer.Text<LocalDate> {
+
+    @Override
+    public String serialize(LocalDate value) throws Exception {
+        return value.toString();
+    }
+
+    @Override
+    public LocalDate deserialize(String type) throws Exception {
+        return IsoFormat.parseDate(type);
+    }
+
+    @Override
+    public Class<?> ofType() {
+        return LocalDate.class;
+    }
+}
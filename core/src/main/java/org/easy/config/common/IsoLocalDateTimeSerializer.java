@@ -0,0 +1,27 @@
+package org.easy.config.common;
+
+import org.easy.config.Serializer;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reads and writes a {@link LocalDateTime} as an ISO-8601 string, for example {@code 2020-02-29T13:45:30}
+ */
+public class IsoLocalDateTimeSerializer implements Serializer.Text<LocalDateTime> {
+
+    @Override
+    public String serialize(LocalDateTime value) throws Exception {
+        return value.toString();
+    }
+
+    @Override
+    public LocalDateTime deserialize(String type) throws Exception {
+        int time = IsoFormat.indexOfTime(type);
+        return LocalDateTime.of(IsoFormat.parseDate(type, 0, time), IsoFormat.parseTime(type, time + 1, type.length()));
+    }
+
+    @Override
+    public Class<?> ofType() {
+        return LocalDateTime.class;
+    }
+}
@@ -0,0 +1,26 @@
+package org.easy.config.common;
+
+import org.easy.config.Serializer;
+
+import java.time.LocalTime;
+
+/**
+ * Reads and writes a {@link LocalTime} as an ISO-8601 string, for example {@code 13:45:30.5}
+ */
+public class IsoLocalTimeSerializer implements Serializer.Text<LocalTime> {
+
+    @Override
+    public String serialize(LocalTime value) throws Exception {
+        return value.toString();
+    }
+
+    @Override
+    public LocalTime deserialize(String type) throws Exception {
+        return IsoFormat.parseTime(type);
+    }
+
+    @Override
+    public Class<?> ofType() {
+        return LocalTime.class;
+    }
+}
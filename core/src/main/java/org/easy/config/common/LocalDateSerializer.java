@@ -8,9 +8,9 @@ import java.util.Map;
 
 public class LocalDateSerializer implements Serializer.KeyValue<LocalDate> {
 
-    private static final String YEAR = "year";
-    private static final String MONTH = "month";
-    private static final String DAY = "day-of-month";
+    static final String YEAR = "year";
+    static final String MONTH = "month";
+    static final String DAY = "day-of-month";
 
     @Override
     public Map<String, Object> serialize(LocalDate value) throws Exception {
@@ -12,11 +12,14 @@ public class LocalDateTimeSerializer implements Serializer.KeyValue<LocalDateTim
 
     @Override
     public Map<String, Object> serialize(LocalDateTime value) throws Exception {
-        Map<String, Object> map = new HashMap<>();
-        Map<String, Object> date = CommonJavaSerializers.DATE.serialize(value.toLocalDate());
-        Map<String, Object> time = CommonJavaSerializers.TIME.serialize(value.toLocalTime());
-        map.putAll(date);
-        map.putAll(time);
+        Map<String, Object> map = new HashMap<>(16);
+        map.put(LocalDateSerializer.YEAR, value.getYear());
+        map.put(LocalDateSerializer.MONTH, value.getMonthValue());
+        map.put(LocalDateSerializer.DAY, value.getDayOfMonth());
+        map.put(LocalTimeSerializer.HOURS, value.getHour());
+        map.put(LocalTimeSerializer.MINUTES, value.getMinute());
+        map.put(LocalTimeSerializer.SECONDS, value.getSecond());
+        map.put(LocalTimeSerializer.NANO, value.getNano());
         return map;
     }
 
@@ -8,10 +8,10 @@ import java.util.Map;
 
 public class LocalTimeSerializer implements Serializer.KeyValue<LocalTime> {
 
-    private static final String HOURS = "hours";
-    private static final String MINUTES = "minutes";
-    private static final String SECONDS = "seconds";
-    private static final String NANO = "nano";
+    static final String HOURS = "hours";
+    static final String MINUTES = "minutes";
+    static final String SECONDS = "seconds";
+    static final String NANO = "nano";
 
     @Override
     public Map<String, Object> serialize(LocalTime value) throws Exception {
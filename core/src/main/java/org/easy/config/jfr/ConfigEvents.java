@@ -0,0 +1,96 @@
+package org.easy.config.jfr;
+
+/**
+ * Emits JDK Flight Recorder events for config loading, see {@link DeserializeEvent}, {@link SerializeEvent},
+ * {@link ResolveSerializerEvent} and {@link ConstructEvent}. All events are disabled by default and are turned on by
+ * recording settings, for example {@code -XX:StartFlightRecording:settings=profile} with
+ * {@code org.easy.config.Deserialize#enabled=true}.
+ * <p>
+ * Nothing here refers to {@code jdk.jfr} directly, so the library still runs on a JVM without Flight Recorder. Every
+ * begin method returns null when the event is not being recorded, and every end method does nothing with a null event
+ */
+public final class ConfigEvents {
+
+    private static final boolean AVAILABLE = detect();
+
+    private ConfigEvents() {
+    }
+
+    private static boolean detect() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ConfigEvents.class.getClassLoader());
+            return Events.isSupported();
+        } catch (ClassNotFoundException | LinkageError | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return true if this JVM has Flight Recorder
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static Object beginDeserialize() {
+        return AVAILABLE ? Events.beginDeserialize() : null;
+    }
+
+    /**
+     * @param event the event returned by {@link #beginDeserialize()}
+     * @param type the config class
+     * @param size the number of entries of the map read, or -1 when the config was streamed
+     * @param failure the exception thrown or null on success
+     */
+    public static void endDeserialize(Object event, Class<?> type, int size, Exception failure) {
+        if (event != null) {
+            Events.endDeserialize(event, type, size, failure);
+        }
+    }
+
+    public static Object beginSerialize() {
+        return AVAILABLE ? Events.beginSerialize() : null;
+    }
+
+    /**
+     * @param event the event returned by {@link #beginSerialize()}
+     * @param type the config class
+     * @param size the number of entries of the map written
+     * @param failure the exception thrown or null on success
+     */
+    public static void endSerialize(Object event, Class<?> type, int size, Exception failure) {
+        if (event != null) {
+            Events.endSerialize(event, type, size, failure);
+        }
+    }
+
+    public static Object beginResolve() {
+        return AVAILABLE ? Events.beginResolve() : null;
+    }
+
+    /**
+     * @param event the event returned by {@link #beginResolve()}
+     * @param type the type a serializer was resolved for
+     * @param serializer the class of the serializer found, or null if none was
+     */
+    public static void endResolve(Object event, Class<?> type, Class<?> serializer) {
+        if (event != null) {
+            Events.endResolve(event, type, serializer);
+        }
+    }
+
+    public static Object beginConstruct() {
+        return AVAILABLE ? Events.beginConstruct() : null;
+    }
+
+    /**
+     * @param event the event returned by {@link #beginConstruct()}
+     * @param type the config class created
+     * @param generated true if a generated serializer called the constructor
+     */
+    public static void endConstruct(Object event, Class<?> type, boolean generated) {
+        if (event != null) {
+            Events.endConstruct(event, type, generated);
+        }
+    }
+}
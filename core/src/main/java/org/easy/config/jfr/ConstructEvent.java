@@ -0,0 +1,19 @@
+package org.easy.config.jfr;
+
+import jdk.jfr.*;
+
+@Name("org.easy.config.Construct")
+@Label("Config Construction")
+@Description("A call to the @ConfigConstructor of a config")
+@Category({"EasyConfig"})
+@Enabled(false)
+@StackTrace(false)
+final class ConstructEvent extends Event {
+
+    @Label("Config Class")
+    Class<?> type;
+
+    @Label("Generated")
+    @Description("True if a generated serializer made the call, false if it was made reflectively")
+    boolean generated;
+}
@@ -0,0 +1,9 @@
+package org.easy.config.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.easy.config.Deserialize")
+@Label("Config Deserialize")
+final class DeserializeEvent extends LoadEvent {
+}
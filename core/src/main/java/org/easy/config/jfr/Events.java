@@ -0,0 +1,121 @@
+package org.easy.config.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * The only class besides the events that refers to {@code jdk.jfr}, loaded once {@link ConfigEvents} found it
+ */
+final class Events {
+
+    private static final EventType DESERIALIZE = EventType.getEventType(DeserializeEvent.class);
+    private static final EventType SERIALIZE = EventType.getEventType(SerializeEvent.class);
+    private static final EventType RESOLVE = EventType.getEventType(ResolveSerializerEvent.class);
+    private static final EventType CONSTRUCT = EventType.getEventType(ConstructEvent.class);
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS = allocationBean();
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private Events() {
+    }
+
+    static boolean isSupported() {
+        return DESERIALIZE != null;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) bean;
+                if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()) {
+                    return allocations;
+                }
+            }
+        } catch (LinkageError | RuntimeException e) {
+            //jdk.management is not part of this runtime
+        }
+        return null;
+    }
+
+    private static long allocatedBytes() {
+        return ALLOCATIONS == null ? -1 : ALLOCATIONS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static <E extends LoadEvent> E begin(E event) {
+        event.depth = DEPTH.get()[0]++;
+        event.allocated = allocatedBytes();
+        event.begin();
+        return event;
+    }
+
+    private static void end(LoadEvent event, Class<?> type, int size, Exception failure) {
+        event.end();
+        DEPTH.get()[0]--;
+        if (!event.shouldCommit()) {
+            return;
+        }
+        long allocated = allocatedBytes();
+        event.allocated = allocated == -1 || event.allocated == -1 ? -1 : allocated - event.allocated;
+        event.type = type;
+        event.size = size;
+        event.failure = failure == null ? null : failure.toString();
+        event.commit();
+    }
+
+    static Object beginDeserialize() {
+        return DESERIALIZE.isEnabled() ? begin(new DeserializeEvent()) : null;
+    }
+
+    static void endDeserialize(Object event, Class<?> type, int size, Exception failure) {
+        end((DeserializeEvent) event, type, size, failure);
+    }
+
+    static Object beginSerialize() {
+        return SERIALIZE.isEnabled() ? begin(new SerializeEvent()) : null;
+    }
+
+    static void endSerialize(Object event, Class<?> type, int size, Exception failure) {
+        end((SerializeEvent) event, type, size, failure);
+    }
+
+    static Object beginResolve() {
+        if (!RESOLVE.isEnabled()) {
+            return null;
+        }
+        Event event = new ResolveSerializerEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endResolve(Object event, Class<?> type, Class<?> serializer) {
+        ResolveSerializerEvent resolve = (ResolveSerializerEvent) event;
+        resolve.end();
+        if (resolve.shouldCommit()) {
+            resolve.type = type;
+            resolve.serializer = serializer;
+            resolve.commit();
+        }
+    }
+
+    static Object beginConstruct() {
+        if (!CONSTRUCT.isEnabled()) {
+            return null;
+        }
+        Event event = new ConstructEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endConstruct(Object event, Class<?> type, boolean generated) {
+        ConstructEvent construct = (ConstructEvent) event;
+        construct.end();
+        if (construct.shouldCommit()) {
+            construct.type = type;
+            construct.generated = generated;
+            construct.commit();
+        }
+    }
+}
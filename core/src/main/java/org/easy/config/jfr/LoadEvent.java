@@ -0,0 +1,31 @@
+package org.easy.config.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Fields shared by {@link DeserializeEvent} and {@link SerializeEvent}
+ */
+@Category({"EasyConfig"})
+@Enabled(false)
+@StackTrace(false)
+abstract class LoadEvent extends Event {
+
+    @Label("Config Class")
+    Class<?> type;
+
+    @Label("Map Size")
+    @Description("Entries of the config map, -1 when the config was streamed")
+    int size;
+
+    @Label("Nesting Depth")
+    @Description("0 for the outermost config of the thread, 1 for a config nested in it and so on")
+    int depth;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the thread meanwhile, -1 when the JVM cannot measure it")
+    @DataAmount
+    long allocated;
+
+    @Label("Failure")
+    String failure;
+}
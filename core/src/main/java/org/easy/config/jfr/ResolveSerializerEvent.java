@@ -0,0 +1,19 @@
+package org.easy.config.jfr;
+
+import jdk.jfr.*;
+
+@Name("org.easy.config.ResolveSerializer")
+@Label("Serializer Resolution")
+@Description("A serializer registry resolving the serializer of a type for the first time")
+@Category({"EasyConfig"})
+@Enabled(false)
+@StackTrace(false)
+final class ResolveSerializerEvent extends Event {
+
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Serializer")
+    @Description("The serializer found, empty when the type has none")
+    Class<?> serializer;
+}
@@ -0,0 +1,9 @@
+package org.easy.config.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.easy.config.Serialize")
+@Label("Config Serialize")
+final class SerializeEvent extends LoadEvent {
+}
@@ -0,0 +1,106 @@
+package org.easy.config.json;
+
+import org.easy.config.Serializer;
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.stream.Token;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Loads and saves configs as JSON without a third party parser
+ */
+public final class Json {
+
+    private static final String INDENT = "  ";
+
+    private Json() {
+    }
+
+    /**
+     * Parses a JSON document into the maps, lists and scalars accepted by {@link AutoSerializer}
+     *
+     * @param json the document
+     * @return the parsed value
+     */
+    public static Object parse(String json) {
+        return readDocument(new JsonReader(json));
+    }
+
+    /**
+     * Reads a file holding a JSON object
+     *
+     * @param path the file to read
+     * @return the parsed object
+     * @throws IOException if the file cannot be read
+     */
+    public static Map<String, Object> read(Path path) throws IOException {
+        Object value = readDocument(JsonReader.open(path));
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException(path + " does not hold a JSON object");
+        }
+        return (Map<String, Object>) value;
+    }
+
+    /**
+     * Loads a file straight into a config, without building the map of the whole file
+     *
+     * @param path the file to read
+     * @param type the config class
+     * @param <T> the type of config
+     * @return the loaded config
+     * @throws Exception if the file cannot be read or does not match the config
+     */
+    public static <T> T load(Path path, Class<T> type) throws Exception {
+        return load(path, new AutoSerializer<>(type));
+    }
+
+    public static <T> T load(Path path, Serializer.KeyValue<T> serializer) throws Exception {
+        JsonReader reader = JsonReader.open(path);
+        T value = Serializer.Streaming.of(serializer).read(reader);
+        if (reader.next() != Token.END_DOCUMENT) {
+            throw new IllegalArgumentException("Unexpected data after the end of " + path);
+        }
+        return value;
+    }
+
+    public static <T> void save(Path path, T value, Serializer.KeyValue<T> serializer) throws Exception {
+        write(path, serializer.serialize(value));
+    }
+
+    public static void write(Path path, Object value) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            new JsonWriter(writer, INDENT).write(value);
+            writer.write('\n');
+        }
+    }
+
+    public static String toJson(Object value) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            new JsonWriter(builder).write(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    private static Object readDocument(JsonReader reader) {
+        Object value;
+        try {
+            value = reader.readValue();
+            if (reader.next() != Token.END_DOCUMENT) {
+                throw new IllegalArgumentException("Unexpected data after the end of the document");
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,426 @@
+package org.easy.config.json;
+
+import org.easy.config.stream.Token;
+import org.easy.config.stream.TokenReader;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads UTF-8 JSON as tokens, straight from bytes. Whole numbers become {@link Integer} when they fit, then
+ * {@link Long}, then {@link BigInteger}. Other numbers become {@link Double}
+ */
+public class JsonReader implements TokenReader {
+
+    /**
+     * Files of at least this size are memory mapped instead of being read onto the heap
+     */
+    public static final long MAP_THRESHOLD = 1 << 20;
+
+    private static final byte OBJECT_FIRST = 0;
+    private static final byte OBJECT_NEXT = 1;
+    private static final byte OBJECT_VALUE = 2;
+    private static final byte ARRAY_FIRST = 3;
+    private static final byte ARRAY_NEXT = 4;
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+    private byte[] states = new byte[16];
+    private int depth;
+    private boolean started;
+    private byte[] scratch = new byte[64];
+
+    private Token peeked;
+    private String peekedKey;
+    private Object peekedScalar;
+    private String key;
+    private Object scalar;
+
+    public JsonReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.position = buffer.position();
+        this.limit = buffer.limit();
+        if (this.limit - this.position >= 3 && (buffer.get(this.position) & 0xFF) == 0xEF && (buffer.get(this.position + 1) & 0xFF) == 0xBB && (buffer.get(this.position + 2) & 0xFF) == 0xBF) {
+            this.position += 3;
+        }
+    }
+
+    public JsonReader(String json) {
+        this(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Opens a reader over a file, reading it through its {@link FileChannel} or memory mapping it when it is at least
+     * {@link #MAP_THRESHOLD} bytes
+     *
+     * @param path the file to read
+     * @return the reader
+     * @throws IOException if the file cannot be read
+     */
+    public static JsonReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= MAP_THRESHOLD) {
+                return new JsonReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                //keep reading until full
+            }
+            buffer.flip();
+            return new JsonReader(buffer);
+        }
+    }
+
+    @Override
+    public Token peek() {
+        if (this.peeked == null) {
+            this.peeked = this.advance();
+        }
+        return this.peeked;
+    }
+
+    @Override
+    public Token next() {
+        Token token = this.peek();
+        this.peeked = null;
+        if (token == Token.KEY) {
+            this.key = this.peekedKey;
+        } else if (token == Token.SCALAR) {
+            this.scalar = this.peekedScalar;
+        }
+        return token;
+    }
+
+    @Override
+    public String key() {
+        return this.key;
+    }
+
+    @Override
+    public Object scalar() {
+        return this.scalar;
+    }
+
+    private Token advance() {
+        this.skipWhitespace();
+        if (this.depth == 0) {
+            if (this.started) {
+                if (this.position < this.limit) {
+                    throw this.error("Unexpected data after the end of the document");
+                }
+                return Token.END_DOCUMENT;
+            }
+            this.started = true;
+            return this.value();
+        }
+        byte state = this.states[this.depth - 1];
+        switch (state) {
+            case OBJECT_FIRST:
+            case OBJECT_NEXT:
+                if (this.current() == '}') {
+                    this.position++;
+                    this.depth--;
+                    return Token.END_OBJECT;
+                }
+                if (state == OBJECT_NEXT) {
+                    this.expect(',');
+                    this.skipWhitespace();
+                }
+                if (this.current() != '"') {
+                    throw this.error("Expected a key");
+                }
+                this.peekedKey = this.string();
+                this.states[this.depth - 1] = OBJECT_VALUE;
+                return Token.KEY;
+            case OBJECT_VALUE:
+                this.expect(':');
+                this.states[this.depth - 1] = OBJECT_NEXT;
+                this.skipWhitespace();
+                return this.value();
+            default:
+                if (this.current() == ']') {
+                    this.position++;
+                    this.depth--;
+                    return Token.END_ARRAY;
+                }
+                if (state == ARRAY_NEXT) {
+                    this.expect(',');
+                    this.skipWhitespace();
+                }
+                this.states[this.depth - 1] = ARRAY_NEXT;
+                return this.value();
+        }
+    }
+
+    private Token value() {
+        int character = this.current();
+        switch (character) {
+            case '{':
+                this.position++;
+                this.push(OBJECT_FIRST);
+                return Token.BEGIN_OBJECT;
+            case '[':
+                this.position++;
+                this.push(ARRAY_FIRST);
+                return Token.BEGIN_ARRAY;
+            case '"':
+                this.peekedScalar = this.string();
+                return Token.SCALAR;
+            case 't':
+                this.literal("true");
+                this.peekedScalar = Boolean.TRUE;
+                return Token.SCALAR;
+            case 'f':
+                this.literal("false");
+                this.peekedScalar = Boolean.FALSE;
+                return Token.SCALAR;
+            case 'n':
+                this.literal("null");
+                this.peekedScalar = null;
+                return Token.SCALAR;
+            default:
+                if (character == '-' || (character >= '0' && character <= '9')) {
+                    this.peekedScalar = this.number();
+                    return Token.SCALAR;
+                }
+                throw this.error("Expected a value");
+        }
+    }
+
+    private void push(byte state) {
+        if (this.depth == this.states.length) {
+            this.states = Arrays.copyOf(this.states, this.depth * 2);
+        }
+        this.states[this.depth++] = state;
+    }
+
+    private int current() {
+        if (this.position >= this.limit) {
+            throw this.error("Unexpected end of document");
+        }
+        return this.buffer.get(this.position) & 0xFF;
+    }
+
+    private void expect(char character) {
+        if (this.current() != character) {
+            throw this.error("Expected '" + character + "'");
+        }
+        this.position++;
+    }
+
+    private void skipWhitespace() {
+        while (this.position < this.limit) {
+            byte character = this.buffer.get(this.position);
+            if (character != ' ' && character != '\n' && character != '\r' && character != '\t') {
+                return;
+            }
+            this.position++;
+        }
+    }
+
+    private void literal(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (this.current() != literal.charAt(i)) {
+                throw this.error("Expected '" + literal + "'");
+            }
+            this.position++;
+        }
+    }
+
+    private Object number() {
+        int start = this.position;
+        boolean negative = this.current() == '-';
+        if (negative) {
+            this.position++;
+        }
+        //accumulated as a negative value so Long.MIN_VALUE stays a long
+        long value = 0;
+        boolean overflow = false;
+        int digits = 0;
+        while (this.position < this.limit) {
+            int character = this.buffer.get(this.position);
+            if (character < '0' || character > '9') {
+                break;
+            }
+            if (digits == 1 && value == 0) {
+                throw this.error("Leading zero");
+            }
+            int digit = character - '0';
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                overflow = true;
+            }
+            value = value * 10 - digit;
+            digits++;
+            this.position++;
+        }
+        if (digits == 0) {
+            throw this.error("Expected a digit");
+        }
+        boolean decimal = false;
+        if (this.position < this.limit && this.buffer.get(this.position) == '.') {
+            this.position++;
+            this.digits();
+            decimal = true;
+        }
+        if (this.position < this.limit && (this.buffer.get(this.position) == 'e' || this.buffer.get(this.position) == 'E')) {
+            this.position++;
+            if (this.position < this.limit && (this.buffer.get(this.position) == '+' || this.buffer.get(this.position) == '-')) {
+                this.position++;
+            }
+            this.digits();
+            decimal = true;
+        }
+        if (decimal) {
+            try {
+                return Double.parseDouble(this.ascii(start, this.position));
+            } catch (NumberFormatException e) {
+                throw this.error("Malformed number");
+            }
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                overflow = true;
+            }
+            value = -value;
+        }
+        if (overflow) {
+            return new BigInteger(this.ascii(start, this.position));
+        }
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    private void digits() {
+        int start = this.position;
+        while (this.position < this.limit) {
+            int character = this.buffer.get(this.position);
+            if (character < '0' || character > '9') {
+                break;
+            }
+            this.position++;
+        }
+        if (this.position == start) {
+            throw this.error("Expected a digit");
+        }
+    }
+
+    private String string() {
+        this.position++;
+        int start = this.position;
+        boolean ascii = true;
+        while (true) {
+            int character = this.current();
+            if (character == '"') {
+                String value = this.decode(start, this.position, ascii);
+                this.position++;
+                return value;
+            }
+            if (character == '\\') {
+                return this.escapedString(start);
+            }
+            if (character < 0x20) {
+                throw this.error("Control character in string");
+            }
+            if (character >= 0x80) {
+                ascii = false;
+            }
+            this.position++;
+        }
+    }
+
+    private String escapedString(int start) {
+        StringBuilder builder = new StringBuilder();
+        int segment = start;
+        while (true) {
+            int character = this.current();
+            if (character == '"') {
+                builder.append(this.decode(segment, this.position, false));
+                this.position++;
+                return builder.toString();
+            }
+            if (character != '\\') {
+                if (character < 0x20) {
+                    throw this.error("Control character in string");
+                }
+                this.position++;
+                continue;
+            }
+            builder.append(this.decode(segment, this.position, false));
+            this.position++;
+            int escaped = this.current();
+            this.position++;
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    builder.append((char) escaped);
+                    break;
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    if (this.position + 4 > this.limit) {
+                        throw this.error("Unexpected end of document");
+                    }
+                    try {
+                        builder.append((char) Integer.parseInt(this.ascii(this.position, this.position + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw this.error("Malformed unicode escape");
+                    }
+                    this.position += 4;
+                    break;
+                default:
+                    throw this.error("Unknown escape '\\" + (char) escaped + "'");
+            }
+            segment = this.position;
+        }
+    }
+
+    private String ascii(int start, int end) {
+        return this.decode(start, end, true);
+    }
+
+    private String decode(int start, int end, boolean ascii) {
+        int length = end - start;
+        if (length == 0) {
+            return "";
+        }
+        if (this.buffer.hasArray()) {
+            int offset = this.buffer.arrayOffset() + start;
+            return new String(this.buffer.array(), offset, length, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+        }
+        if (this.scratch.length < length) {
+            this.scratch = new byte[Math.max(length, this.scratch.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            this.scratch[i] = this.buffer.get(start + i);
+        }
+        return new String(this.scratch, 0, length, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at offset " + this.position);
+    }
+}
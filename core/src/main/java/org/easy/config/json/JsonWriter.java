@@ -0,0 +1,146 @@
+package org.easy.config.json;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Writes the map, collection and scalar trees produced by serializers as JSON
+ */
+public class JsonWriter {
+
+    private final Appendable out;
+    private final String indent;
+
+    /**
+     * @param out where to write
+     * @param indent the text used per level of indentation, or an empty string to write compact JSON
+     */
+    public JsonWriter(Appendable out, String indent) {
+        this.out = out;
+        this.indent = indent;
+    }
+
+    public JsonWriter(Appendable out) {
+        this(out, "");
+    }
+
+    public void write(Object value) throws IOException {
+        this.write(value, 0);
+    }
+
+    private void write(Object value, int level) throws IOException {
+        if (value == null) {
+            this.out.append("null");
+        } else if (value instanceof String) {
+            this.string((String) value);
+        } else if (value instanceof Boolean) {
+            this.out.append(value.toString());
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger) {
+            this.out.append(value.toString());
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                throw new IllegalArgumentException("JSON cannot hold " + value);
+            }
+            this.out.append(value.toString());
+        } else if (value instanceof BigDecimal) {
+            this.out.append(((BigDecimal) value).toString());
+        } else if (value instanceof Character) {
+            this.string(value.toString());
+        } else if (value instanceof Map) {
+            this.object((Map<?, ?>) value, level);
+        } else if (value instanceof Collection) {
+            this.array((Collection<?>) value, level);
+        } else {
+            throw new IllegalArgumentException("Cannot write " + value.getClass().getSimpleName() + " as JSON");
+        }
+    }
+
+    private void object(Map<?, ?> map, int level) throws IOException {
+        if (map.isEmpty()) {
+            this.out.append("{}");
+            return;
+        }
+        this.out.append('{');
+        Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<?, ?> entry = iterator.next();
+            this.newLine(level + 1);
+            this.string(String.valueOf(entry.getKey()));
+            this.out.append(this.indent.isEmpty() ? ":" : ": ");
+            this.write(entry.getValue(), level + 1);
+            if (iterator.hasNext()) {
+                this.out.append(',');
+            }
+        }
+        this.newLine(level);
+        this.out.append('}');
+    }
+
+    private void array(Collection<?> collection, int level) throws IOException {
+        if (collection.isEmpty()) {
+            this.out.append("[]");
+            return;
+        }
+        this.out.append('[');
+        Iterator<?> iterator = collection.iterator();
+        while (iterator.hasNext()) {
+            this.newLine(level + 1);
+            this.write(iterator.next(), level + 1);
+            if (iterator.hasNext()) {
+                this.out.append(',');
+            }
+        }
+        this.newLine(level);
+        this.out.append(']');
+    }
+
+    private void newLine(int level) throws IOException {
+        if (this.indent.isEmpty()) {
+            return;
+        }
+        this.out.append('\n');
+        for (int i = 0; i < level; i++) {
+            this.out.append(this.indent);
+        }
+    }
+
+    private void string(String value) throws IOException {
+        this.out.append('"');
+        int segment = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            String escaped;
+            switch (character) {
+                case '"':
+                    escaped = "\\\"";
+                    break;
+                case '\\':
+                    escaped = "\\\\";
+                    break;
+                case '\n':
+                    escaped = "\\n";
+                    break;
+                case '\r':
+                    escaped = "\\r";
+                    break;
+                case '\t':
+                    escaped = "\\t";
+                    break;
+                default:
+                    if (character >= 0x20) {
+                        continue;
+                    }
+                    escaped = String.format("\\u%04x", (int) character);
+                    break;
+            }
+            this.out.append(value, segment, i).append(escaped);
+            segment = i + 1;
+        }
+        this.out.append(value, segment, value.length()).append('"');
+    }
+}
@@ -0,0 +1,77 @@
+package org.easy.config.metrics;
+
+/**
+ * Receives timings and counts from {@link org.easy.config.auto.AutoSerializer} and the serializers it calls. Every
+ * method does nothing by default, so implementations only override what they record. Methods are called from the
+ * (de)serializing thread and must be thread safe.
+ * <p>
+ * Timings are only taken when a serializer has metrics other than {@link #NONE}
+ */
+public interface ConfigMetrics {
+
+    /**
+     * Records nothing. Serializers using it skip taking timings altogether
+     */
+    ConfigMetrics NONE = new ConfigMetrics() {
+    };
+
+    /**
+     * @param type the class that was deserialized, either a config or the type of a serializer
+     * @param nanos the time taken, including nested configs
+     */
+    default void deserialized(Class<?> type, long nanos) {
+    }
+
+    /**
+     * @param type the class that was serialized, either a config or the type of a serializer
+     * @param nanos the time taken, including nested configs
+     */
+    default void serialized(Class<?> type, long nanos) {
+    }
+
+    /**
+     * @param owner the config class
+     * @param field the name of the field
+     * @param nanos the time taken converting the value of the field
+     */
+    default void fieldDeserialized(Class<?> owner, String field, long nanos) {
+    }
+
+    /**
+     * @param owner the config class
+     * @param field the name of the field
+     * @param nanos the time taken serializing the value of the field
+     */
+    default void fieldSerialized(Class<?> owner, String field, long nanos) {
+    }
+
+    /**
+     * A serializer was looked up in a {@link org.easy.config.auto.SerializerRegistry}
+     *
+     * @param type the type looked up
+     */
+    default void serializerLookup(Class<?> type) {
+    }
+
+    /**
+     * A lookup was not cached and the registry resolved the serializer of the type, every other lookup was a cache hit
+     *
+     * @param type the type resolved
+     */
+    default void serializerResolved(Class<?> type) {
+    }
+
+    /**
+     * @param type the config class that was created
+     * @param generated true if a compile time generated serializer created it, false if it was created reflectively
+     */
+    default void constructed(Class<?> type, boolean generated) {
+    }
+
+    /**
+     * @param type the class that failed to (de)serialize
+     * @param error the failure
+     */
+    default void failed(Class<?> type, Exception error) {
+    }
+}
@@ -0,0 +1,101 @@
+package org.easy.config.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock free histogram of non negative values. Values below 16 are counted exactly, larger values fall into one of 16
+ * linear buckets per power of two, so any percentile is within 1/16th of the recorded value. Recording never allocates
+ */
+public final class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        this.counts.incrementAndGet(indexOf(value));
+        this.count.increment();
+        this.sum.add(value);
+        long max;
+        while (value > (max = this.max.get())) {
+            if (this.max.compareAndSet(max, value)) {
+                break;
+            }
+        }
+    }
+
+    public long count() {
+        return this.count.sum();
+    }
+
+    public long sum() {
+        return this.sum.sum();
+    }
+
+    public long max() {
+        return this.max.get();
+    }
+
+    public double mean() {
+        long count = this.count();
+        return count == 0 ? 0 : (double) this.sum() / count;
+    }
+
+    /**
+     * Gets the value below which the percentage of recorded values fall
+     *
+     * @param percentile between 0 and 100
+     * @return the highest value of the bucket holding the percentile, capped at {@link #max()}, or 0 when empty
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        long count = this.count();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestOf(i), this.max());
+            }
+        }
+        return this.max();
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + this.count() + ", mean=" + Math.round(this.mean()) + ", p50=" + this.percentile(50) + ", p99=" + this.percentile(99) + ", max=" + this.max();
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long highestOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,154 @@
+package org.easy.config.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps latency histograms in nanoseconds per class and per field, plus counters, in memory. The maps returned are
+ * live views that can be scraped at any time while serializers keep recording
+ */
+public class InMemoryMetrics implements ConfigMetrics {
+
+    private final Map<Class<?>, Histogram> deserialized = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Histogram> serialized = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, Histogram>> fieldsDeserialized = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, Histogram>> fieldsSerialized = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> reflectiveConstructions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> generatedConstructions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder resolutions = new LongAdder();
+
+    @Override
+    public void deserialized(Class<?> type, long nanos) {
+        histogramOf(this.deserialized, type).record(nanos);
+    }
+
+    @Override
+    public void serialized(Class<?> type, long nanos) {
+        histogramOf(this.serialized, type).record(nanos);
+    }
+
+    @Override
+    public void fieldDeserialized(Class<?> owner, String field, long nanos) {
+        histogramOf(this.fieldsDeserialized.computeIfAbsent(owner, key -> new ConcurrentHashMap<>()), field).record(nanos);
+    }
+
+    @Override
+    public void fieldSerialized(Class<?> owner, String field, long nanos) {
+        histogramOf(this.fieldsSerialized.computeIfAbsent(owner, key -> new ConcurrentHashMap<>()), field).record(nanos);
+    }
+
+    @Override
+    public void serializerLookup(Class<?> type) {
+        this.lookups.increment();
+    }
+
+    @Override
+    public void serializerResolved(Class<?> type) {
+        this.resolutions.increment();
+    }
+
+    @Override
+    public void constructed(Class<?> type, boolean generated) {
+        counterOf(generated ? this.generatedConstructions : this.reflectiveConstructions, type).increment();
+    }
+
+    @Override
+    public void failed(Class<?> type, Exception error) {
+        counterOf(this.errors, type).increment();
+    }
+
+    public Map<Class<?>, Histogram> deserializeLatencies() {
+        return Collections.unmodifiableMap(this.deserialized);
+    }
+
+    public Map<Class<?>, Histogram> serializeLatencies() {
+        return Collections.unmodifiableMap(this.serialized);
+    }
+
+    public Map<String, Histogram> fieldDeserializeLatencies(Class<?> owner) {
+        return Collections.unmodifiableMap(this.fieldsDeserialized.getOrDefault(owner, Collections.emptyMap()));
+    }
+
+    public Map<String, Histogram> fieldSerializeLatencies(Class<?> owner) {
+        return Collections.unmodifiableMap(this.fieldsSerialized.getOrDefault(owner, Collections.emptyMap()));
+    }
+
+    public long serializerLookups() {
+        return this.lookups.sum();
+    }
+
+    /**
+     * @return the lookups that were answered from the cache of a registry
+     */
+    public long serializerCacheHits() {
+        return Math.max(0, this.lookups.sum() - this.resolutions.sum());
+    }
+
+    public long reflectiveConstructions(Class<?> type) {
+        return countOf(this.reflectiveConstructions, type);
+    }
+
+    public long generatedConstructions(Class<?> type) {
+        return countOf(this.generatedConstructions, type);
+    }
+
+    public long errors(Class<?> type) {
+        return countOf(this.errors, type);
+    }
+
+    /**
+     * Formats every class as a line, slowest total deserialize time first, with latencies in microseconds
+     *
+     * @return the report
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("lookups=%d, cacheHits=%d%n", this.serializerLookups(), this.serializerCacheHits()));
+        this.deserialized.entrySet().stream()
+                .sorted((first, second) -> Long.compare(second.getValue().sum(), first.getValue().sum()))
+                .forEach(entry -> {
+                    Histogram histogram = entry.getValue();
+                    builder.append(String.format("%s: count=%d, p50=%dus, p99=%dus, max=%dus, reflective=%d, generated=%d, errors=%d%n",
+                            entry.getKey().getName(),
+                            histogram.count(),
+                            toMicros(histogram.percentile(50)),
+                            toMicros(histogram.percentile(99)),
+                            toMicros(histogram.max()),
+                            this.reflectiveConstructions(entry.getKey()),
+                            this.generatedConstructions(entry.getKey()),
+                            this.errors(entry.getKey())));
+                });
+        return builder.toString();
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static <K> Histogram histogramOf(Map<K, Histogram> histograms, K key) {
+        Histogram histogram = histograms.get(key);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(key, k -> new Histogram());
+        }
+        return histogram;
+    }
+
+    private static LongAdder counterOf(Map<Class<?>, LongAdder> counters, Class<?> type) {
+        LongAdder counter = counters.get(type);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(type, k -> new LongAdder());
+        }
+        return counter;
+    }
+
+    private static long countOf(Map<Class<?>, LongAdder> counters, Class<?> type) {
+        LongAdder counter = counters.get(type);
+        return counter == null ? 0 : counter.sum();
+    }
+}
@@ -0,0 +1,163 @@
+package org.easy.config.reload;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Holds the current config for readers on hot paths. Reading is a single volatile read, reloads swap in a new
+ * {@link Snapshot} and listeners are told about it on their own executor.
+ * <p>
+ * A slow listener does not see every version: while it is busy, newer versions are merged and it is called once
+ * with the latest. A listener is never called concurrently with itself
+ *
+ * @param <T> the config class
+ */
+public class ConfigHandle<T> {
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile Snapshot<T> snapshot;
+
+    public ConfigHandle() {
+        this.snapshot = new Snapshot<>(null, 0);
+    }
+
+    public ConfigHandle(T value) {
+        this.snapshot = new Snapshot<>(value, 1);
+    }
+
+    /**
+     * Creates a handle following the watcher and starts the watcher
+     *
+     * @param watcher the watcher of the config file
+     * @param <T> the config class
+     * @return the handle holding the first loaded config
+     * @throws Exception if the watcher cannot be started
+     */
+    public static <T> ConfigHandle<T> watch(ConfigWatcher<T> watcher) throws Exception {
+        ConfigHandle<T> handle = new ConfigHandle<>();
+        watcher.onChange(handle::publish);
+        watcher.start();
+        return handle;
+    }
+
+    public T get() {
+        return this.snapshot.value;
+    }
+
+    public long version() {
+        return this.snapshot.version;
+    }
+
+    /**
+     * Gets the current value together with its version
+     *
+     * @return the current snapshot
+     */
+    public Snapshot<T> snapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Replaces the current value and schedules the listeners
+     *
+     * @param value the new value
+     * @return the version of the new value
+     */
+    public long publish(T value) {
+        Snapshot<T> published;
+        synchronized (this) {
+            published = new Snapshot<>(value, this.snapshot.version + 1);
+            this.snapshot = published;
+        }
+        for (Subscription subscription : this.subscriptions) {
+            subscription.schedule();
+        }
+        return published.version;
+    }
+
+    public void addListener(Consumer<? super T> listener) {
+        this.addListener(listener, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Adds a listener called with each new value
+     *
+     * @param listener the listener
+     * @param executor the executor the listener runs on
+     */
+    public void addListener(Consumer<? super T> listener, Executor executor) {
+        this.subscriptions.add(new Subscription(listener, executor, this.snapshot.version));
+    }
+
+    public boolean removeListener(Consumer<? super T> listener) {
+        return this.subscriptions.removeIf(subscription -> subscription.listener == listener);
+    }
+
+    public static final class Snapshot<T> {
+
+        private final T value;
+        private final long version;
+
+        private Snapshot(T value, long version) {
+            this.value = value;
+            this.version = version;
+        }
+
+        public T value() {
+            return this.value;
+        }
+
+        public long version() {
+            return this.version;
+        }
+    }
+
+    private final class Subscription {
+
+        private final Consumer<? super T> listener;
+        private final Executor executor;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private long delivered;
+
+        private Subscription(Consumer<? super T> listener, Executor executor, long delivered) {
+            this.listener = listener;
+            this.executor = executor;
+            this.delivered = delivered;
+        }
+
+        private void schedule() {
+            if (!this.scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                this.executor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                //the next publish tries again
+                this.scheduled.set(false);
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+
+        private void deliver() {
+            do {
+                Snapshot<T> latest = ConfigHandle.this.snapshot;
+                if (latest.version > this.delivered) {
+                    this.delivered = latest.version;
+                    try {
+                        this.listener.accept(latest.value);
+                    } catch (RuntimeException e) {
+                        Thread thread = Thread.currentThread();
+                        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                    }
+                }
+                this.scheduled.set(false);
+            } while (ConfigHandle.this.snapshot.version > this.delivered && this.scheduled.compareAndSet(false, true));
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package org.easy.config.reload;
+
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.json.JsonReader;
+import org.easy.config.stream.Token;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Reloads a JSON config file when it changes on disk.
+ * <p>
+ * Bursts of file events are merged until the file has been quiet for the debounce time. A reload that finds the same
+ * content does nothing, otherwise the new map is compared with the previous one and only the nested configs whose
+ * entries changed are rebuilt, see {@link AutoSerializer#update(Object, Map, Map)}
+ *
+ * @param <T> the config class
+ */
+public class ConfigWatcher<T> implements Closeable {
+
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(200);
+
+    private final Path path;
+    private final AutoSerializer<T> serializer;
+    private final Duration debounce;
+    private final List<Consumer<? super T>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<? super Exception>> errorListeners = new CopyOnWriteArrayList<>();
+
+    private volatile T current;
+    private Map<String, Object> currentMap;
+    private byte[] digest;
+    private WatchService watchService;
+    private Thread thread;
+
+    public ConfigWatcher(Path path, AutoSerializer<T> serializer) {
+        this(path, serializer, DEFAULT_DEBOUNCE);
+    }
+
+    public ConfigWatcher(Path path, AutoSerializer<T> serializer, Duration debounce) {
+        this.path = path.toAbsolutePath();
+        this.serializer = serializer;
+        this.debounce = debounce;
+    }
+
+    public Path path() {
+        return this.path;
+    }
+
+    /**
+     * Gets the last loaded config
+     *
+     * @return the config or null if nothing has been loaded
+     */
+    public T current() {
+        return this.current;
+    }
+
+    /**
+     * Adds a listener called with the new config after each reload that changed it. Listeners run on the thread
+     * that reloaded the file
+     *
+     * @param listener the listener
+     * @return this watcher
+     */
+    public ConfigWatcher<T> onChange(Consumer<? super T> listener) {
+        this.listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Adds a listener called when a reload started by a file event fails. The previous config is kept
+     *
+     * @param listener the listener
+     * @return this watcher
+     */
+    public ConfigWatcher<T> onError(Consumer<? super Exception> listener) {
+        this.errorListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Reads the file if its content changed since the last load
+     *
+     * @return true if a new config was loaded
+     * @throws Exception if the file cannot be read or deserialized, the previous config is kept
+     */
+    public synchronized boolean reload() throws Exception {
+        byte[] content = Files.readAllBytes(this.path);
+        byte[] digest = digest(content);
+        if (Arrays.equals(digest, this.digest)) {
+            return false;
+        }
+        JsonReader reader = new JsonReader(ByteBuffer.wrap(content));
+        Object value = reader.readValue();
+        if (!(value instanceof Map) || reader.next() != Token.END_DOCUMENT) {
+            throw new IllegalArgumentException(this.path + " does not hold a single JSON object");
+        }
+        Map<String, Object> map = (Map<String, Object>) value;
+        T updated = this.serializer.update(this.current, this.currentMap, map);
+        this.digest = digest;
+        this.currentMap = map;
+        if (updated == this.current) {
+            return false;
+        }
+        this.current = updated;
+        for (Consumer<? super T> listener : this.listeners) {
+            listener.accept(updated);
+        }
+        return true;
+    }
+
+    /**
+     * Loads the file and starts watching it on a daemon thread
+     *
+     * @return the loaded config
+     * @throws Exception if the file cannot be loaded or watched
+     */
+    public synchronized T start() throws Exception {
+        if (this.thread != null) {
+            throw new IllegalStateException("Already watching " + this.path);
+        }
+        this.reload();
+        this.watchService = this.path.getFileSystem().newWatchService();
+        this.path.getParent().register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::watch, "EasyConfig-watcher-" + this.path.getFileName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+        return this.current;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.watchService == null) {
+            return;
+        }
+        this.watchService.close();
+        this.thread.interrupt();
+        this.watchService = null;
+        this.thread = null;
+    }
+
+    private void watch() {
+        WatchService watchService = this.watchService;
+        try {
+            while (true) {
+                if (!this.isRelevant(watchService.take())) {
+                    continue;
+                }
+                WatchKey key;
+                while ((key = watchService.poll(this.debounce.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    this.isRelevant(key);
+                }
+                try {
+                    this.reload();
+                } catch (Exception e) {
+                    for (Consumer<? super Exception> listener : this.errorListeners) {
+                        listener.accept(e);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            //closed
+        }
+    }
+
+    private boolean isRelevant(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || this.path.getFileName().equals(event.context())) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    private static byte[] digest(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.easy.config.snapshot;
+
+import org.easy.config.Serializer;
+import org.easy.config.json.JsonReader;
+import org.easy.config.stream.Token;
+import org.easy.config.stream.TokenReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Caches parsed JSON configs as binary snapshots, so a config that has not changed since the last start is read from
+ * a memory mapped snapshot instead of being parsed again. A snapshot is only used when the SHA-256 digest of the source
+ * file matches the one stored in the snapshot, otherwise the source is parsed and the snapshot is rewritten. A snapshot
+ * that cannot be read is treated as missing
+ */
+public final class Snapshot {
+
+    private Snapshot() {
+    }
+
+    /**
+     * Reads a file holding a JSON object through its snapshot
+     *
+     * @param source the JSON file
+     * @param snapshot the snapshot file, which is created or replaced when it does not match the source
+     * @return the parsed object
+     * @throws IOException if either file cannot be read or the snapshot cannot be written
+     */
+    public static Map<String, Object> read(Path source, Path snapshot) throws IOException {
+        byte[] content = Files.readAllBytes(source);
+        byte[] digest = digest(content);
+        SnapshotReader reader = open(snapshot, digest);
+        if (reader != null) {
+            try {
+                Object value = readDocument(reader);
+                if (value instanceof Map) {
+                    return (Map<String, Object>) value;
+                }
+            } catch (RuntimeException e) {
+                //corrupt snapshot, parsed again from the source
+            }
+        }
+        Map<String, Object> map = parse(source, content);
+        SnapshotWriter.write(snapshot, map, digest);
+        return map;
+    }
+
+    /**
+     * Loads a config through the snapshot of its JSON file. A matching snapshot is read straight into the config
+     * without building its maps
+     *
+     * @param source the JSON file
+     * @param snapshot the snapshot file, which is created or replaced when it does not match the source
+     * @param serializer the serializer of the config
+     * @param <T> the type of config
+     * @return the loaded config
+     * @throws Exception if either file cannot be read, the snapshot cannot be written or the config does not match
+     */
+    public static <T> T load(Path source, Path snapshot, Serializer.KeyValue<T> serializer) throws Exception {
+        byte[] content = Files.readAllBytes(source);
+        byte[] digest = digest(content);
+        SnapshotReader reader = open(snapshot, digest);
+        if (reader != null) {
+            try {
+                if (reader.peek() == Token.BEGIN_OBJECT) {
+                    T value = Serializer.Streaming.of(serializer).read(reader);
+                    if (reader.next() == Token.END_DOCUMENT) {
+                        return value;
+                    }
+                }
+            } catch (RuntimeException e) {
+                //corrupt snapshot, loaded again from the source which reports the error if the source is at fault
+            }
+        }
+        Map<String, Object> map = parse(source, content);
+        SnapshotWriter.write(snapshot, map, digest);
+        return serializer.deserialize(map);
+    }
+
+    /**
+     * @param path the file to digest
+     * @return the SHA-256 digest of the file content
+     * @throws IOException if the file cannot be read
+     */
+    public static byte[] digest(Path path) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[65536];
+        try (InputStream input = Files.newInputStream(path)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+
+    private static byte[] digest(byte[] content) {
+        return sha256().digest(content);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> parse(Path source, byte[] content) {
+        Object value = readDocument(new JsonReader(ByteBuffer.wrap(content)));
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException(source + " does not hold a JSON object");
+        }
+        return (Map<String, Object>) value;
+    }
+
+    private static SnapshotReader open(Path snapshot, byte[] digest) throws IOException {
+        if (!Files.isRegularFile(snapshot)) {
+            return null;
+        }
+        SnapshotReader reader;
+        try {
+            reader = SnapshotReader.open(snapshot);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return Arrays.equals(reader.digest(), digest) ? reader : null;
+    }
+
+    private static Object readDocument(TokenReader reader) {
+        try {
+            Object value = reader.readValue();
+            if (reader.next() != Token.END_DOCUMENT) {
+                throw new IllegalArgumentException("Unexpected data after the end of the snapshot");
+            }
+            return value;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
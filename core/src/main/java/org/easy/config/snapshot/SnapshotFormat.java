@@ -0,0 +1,37 @@
+package org.easy.config.snapshot;
+
+/**
+ * Layout of a snapshot file. All numbers are big endian.
+ * <pre>
+ * magic         4 bytes, {@link #MAGIC}
+ * source digest {@link #DIGEST_LENGTH} bytes, SHA-256 of the file the snapshot was built from
+ * string count  varint
+ * strings       varint byte length followed by UTF-8, for every map key and string value
+ * root          a single value
+ * </pre>
+ * A value is a tag byte followed by its data. Whole numbers are zig-zag varints, strings are varint indexes into the
+ * string table, lists are a varint size followed by the elements and maps are a varint size followed by a string index
+ * and value per entry
+ */
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x45435301;
+    static final int DIGEST_LENGTH = 32;
+    static final int HEADER_LENGTH = 4 + DIGEST_LENGTH;
+
+    static final byte NULL = 0;
+    static final byte FALSE = 1;
+    static final byte TRUE = 2;
+    static final byte INT = 3;
+    static final byte LONG = 4;
+    static final byte FLOAT = 5;
+    static final byte DOUBLE = 6;
+    static final byte BIG_INTEGER = 7;
+    static final byte BIG_DECIMAL = 8;
+    static final byte STRING = 9;
+    static final byte LIST = 10;
+    static final byte MAP = 11;
+
+    private SnapshotFormat() {
+    }
+}
@@ -0,0 +1,273 @@
+package org.easy.config.snapshot;
+
+import org.easy.config.stream.Token;
+import org.easy.config.stream.TokenReader;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads a snapshot as tokens, see {@link SnapshotFormat}. The string table is decoded once when the first token is
+ * read, so checking {@link #digest()} of a stale snapshot costs only the header
+ */
+public class SnapshotReader implements TokenReader {
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private final byte[] digest;
+    private int position;
+    private String[] strings;
+    private int[] remaining = new int[16];
+    private boolean[] objects = new boolean[16];
+    private boolean[] keyRead = new boolean[16];
+    private int depth;
+    private boolean started;
+
+    private Token peeked;
+    private String peekedKey;
+    private Object peekedScalar;
+    private String key;
+    private Object scalar;
+
+    public SnapshotReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.position = buffer.position();
+        this.limit = buffer.limit();
+        if (this.limit - this.position < SnapshotFormat.HEADER_LENGTH || buffer.getInt(this.position) != SnapshotFormat.MAGIC) {
+            throw new IllegalArgumentException("Not a snapshot");
+        }
+        this.position += 4;
+        this.digest = new byte[SnapshotFormat.DIGEST_LENGTH];
+        for (int i = 0; i < this.digest.length; i++) {
+            this.digest[i] = buffer.get(this.position++);
+        }
+    }
+
+    /**
+     * Opens a reader over a memory mapped snapshot file
+     *
+     * @param path the file to read
+     * @return the reader
+     * @throws IOException if the file cannot be read
+     */
+    public static SnapshotReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(path + " is too large to be a snapshot");
+            }
+            return new SnapshotReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * @return a copy of the digest of the source the snapshot was built from
+     */
+    public byte[] digest() {
+        return this.digest.clone();
+    }
+
+    @Override
+    public Token peek() {
+        if (this.peeked == null) {
+            this.peeked = this.advance();
+        }
+        return this.peeked;
+    }
+
+    @Override
+    public Token next() {
+        Token token = this.peek();
+        this.peeked = null;
+        if (token == Token.KEY) {
+            this.key = this.peekedKey;
+        } else if (token == Token.SCALAR) {
+            this.scalar = this.peekedScalar;
+        }
+        return token;
+    }
+
+    @Override
+    public String key() {
+        return this.key;
+    }
+
+    @Override
+    public Object scalar() {
+        return this.scalar;
+    }
+
+    private Token advance() {
+        if (this.depth == 0) {
+            if (this.started) {
+                if (this.position < this.limit) {
+                    throw this.error("Unexpected data after the end of the snapshot");
+                }
+                return Token.END_DOCUMENT;
+            }
+            this.started = true;
+            this.readStrings();
+            return this.value();
+        }
+        int level = this.depth - 1;
+        if (this.objects[level] && this.keyRead[level]) {
+            this.keyRead[level] = false;
+            return this.value();
+        }
+        if (this.remaining[level] == 0) {
+            this.depth--;
+            return this.objects[level] ? Token.END_OBJECT : Token.END_ARRAY;
+        }
+        this.remaining[level]--;
+        if (this.objects[level]) {
+            this.keyRead[level] = true;
+            this.peekedKey = this.string();
+            return Token.KEY;
+        }
+        return this.value();
+    }
+
+    private void readStrings() {
+        int count = this.readVarInt();
+        this.strings = new String[count];
+        byte[] scratch = new byte[64];
+        for (int i = 0; i < count; i++) {
+            int length = this.readVarInt();
+            this.require(length);
+            if (this.buffer.hasArray()) {
+                this.strings[i] = new String(this.buffer.array(), this.buffer.arrayOffset() + this.position, length, StandardCharsets.UTF_8);
+            } else {
+                if (scratch.length < length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                for (int j = 0; j < length; j++) {
+                    scratch[j] = this.buffer.get(this.position + j);
+                }
+                this.strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+            this.position += length;
+        }
+    }
+
+    private Token value() {
+        this.require(1);
+        byte tag = this.buffer.get(this.position++);
+        switch (tag) {
+            case SnapshotFormat.NULL:
+                this.peekedScalar = null;
+                return Token.SCALAR;
+            case SnapshotFormat.FALSE:
+                this.peekedScalar = Boolean.FALSE;
+                return Token.SCALAR;
+            case SnapshotFormat.TRUE:
+                this.peekedScalar = Boolean.TRUE;
+                return Token.SCALAR;
+            case SnapshotFormat.INT:
+                this.peekedScalar = (int) unZigZag(this.readVarLong());
+                return Token.SCALAR;
+            case SnapshotFormat.LONG:
+                this.peekedScalar = unZigZag(this.readVarLong());
+                return Token.SCALAR;
+            case SnapshotFormat.FLOAT:
+                this.require(4);
+                this.peekedScalar = Float.intBitsToFloat(this.buffer.getInt(this.position));
+                this.position += 4;
+                return Token.SCALAR;
+            case SnapshotFormat.DOUBLE:
+                this.require(8);
+                this.peekedScalar = Double.longBitsToDouble(this.buffer.getLong(this.position));
+                this.position += 8;
+                return Token.SCALAR;
+            case SnapshotFormat.BIG_INTEGER:
+                this.peekedScalar = this.readBigInteger();
+                return Token.SCALAR;
+            case SnapshotFormat.BIG_DECIMAL:
+                int scale = (int) unZigZag(this.readVarLong());
+                this.peekedScalar = new BigDecimal(this.readBigInteger(), scale);
+                return Token.SCALAR;
+            case SnapshotFormat.STRING:
+                this.peekedScalar = this.string();
+                return Token.SCALAR;
+            case SnapshotFormat.LIST:
+                this.push(false, this.readVarInt());
+                return Token.BEGIN_ARRAY;
+            case SnapshotFormat.MAP:
+                this.push(true, this.readVarInt());
+                return Token.BEGIN_OBJECT;
+            default:
+                throw this.error("Unknown tag " + tag);
+        }
+    }
+
+    private void push(boolean object, int size) {
+        if (this.depth == this.remaining.length) {
+            this.remaining = Arrays.copyOf(this.remaining, this.depth * 2);
+            this.objects = Arrays.copyOf(this.objects, this.depth * 2);
+            this.keyRead = Arrays.copyOf(this.keyRead, this.depth * 2);
+        }
+        this.remaining[this.depth] = size;
+        this.objects[this.depth] = object;
+        this.keyRead[this.depth] = false;
+        this.depth++;
+    }
+
+    private String string() {
+        int index = this.readVarInt();
+        if (index < 0 || index >= this.strings.length) {
+            throw this.error("Unknown string " + index);
+        }
+        return this.strings[index];
+    }
+
+    private BigInteger readBigInteger() {
+        int length = this.readVarInt();
+        this.require(length);
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = this.buffer.get(this.position++);
+        }
+        return new BigInteger(bytes);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private int readVarInt() {
+        long value = this.readVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw this.error("Malformed size");
+        }
+        return (int) value;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            this.require(1);
+            byte next = this.buffer.get(this.position++);
+            value |= (long) (next & 0x7F) << shift;
+            if (next >= 0) {
+                return value;
+            }
+        }
+        throw this.error("Malformed varint");
+    }
+
+    private void require(int length) {
+        if (length < 0 || this.limit - this.position < length) {
+            throw this.error("Unexpected end of snapshot");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at offset " + this.position);
+    }
+}
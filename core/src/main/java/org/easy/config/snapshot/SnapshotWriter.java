@@ -0,0 +1,191 @@
+package org.easy.config.snapshot;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Writes the map, collection and scalar trees produced by serializers in the snapshot format, see
+ * {@link SnapshotFormat}. Every distinct key and string is stored once
+ */
+public class SnapshotWriter {
+
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private byte[] buffer = new byte[8192];
+    private int position;
+
+    private SnapshotWriter() {
+    }
+
+    /**
+     * @param value the tree to write
+     * @param digest the SHA-256 digest of the source the tree was read from
+     * @return the snapshot
+     */
+    public static byte[] toBytes(Object value, byte[] digest) {
+        if (digest.length != SnapshotFormat.DIGEST_LENGTH) {
+            throw new IllegalArgumentException("Expected a digest of " + SnapshotFormat.DIGEST_LENGTH + " bytes");
+        }
+        SnapshotWriter writer = new SnapshotWriter();
+        writer.collect(value);
+        writer.writeInt(SnapshotFormat.MAGIC);
+        writer.writeBytes(digest, digest.length);
+        writer.writeVarInt(writer.strings.size());
+        for (String string : writer.strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writer.writeVarInt(bytes.length);
+            writer.writeBytes(bytes, bytes.length);
+        }
+        writer.write(value);
+        return Arrays.copyOf(writer.buffer, writer.position);
+    }
+
+    /**
+     * Writes the snapshot next to the target first and then moves it over the target, so readers never see a partly
+     * written snapshot
+     *
+     * @param path the snapshot file
+     * @param value the tree to write
+     * @param digest the SHA-256 digest of the source the tree was read from
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, Object value, byte[] digest) throws IOException {
+        byte[] bytes = toBytes(value, digest);
+        Path absolute = path.toAbsolutePath();
+        Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, bytes);
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void collect(Object value) {
+        if (value instanceof String || value instanceof Character) {
+            this.index(value.toString());
+        } else if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                this.index(String.valueOf(entry.getKey()));
+                this.collect(entry.getValue());
+            }
+        } else if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                this.collect(element);
+            }
+        }
+    }
+
+    private int index(String string) {
+        Integer index = this.indexes.get(string);
+        if (index == null) {
+            index = this.strings.size();
+            this.indexes.put(string, index);
+            this.strings.add(string);
+        }
+        return index;
+    }
+
+    private void write(Object value) {
+        if (value == null) {
+            this.writeByte(SnapshotFormat.NULL);
+        } else if (value instanceof Boolean) {
+            this.writeByte((Boolean) value ? SnapshotFormat.TRUE : SnapshotFormat.FALSE);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            this.writeByte(SnapshotFormat.INT);
+            this.writeVarLong(zigZag(((Number) value).intValue()));
+        } else if (value instanceof Long) {
+            this.writeByte(SnapshotFormat.LONG);
+            this.writeVarLong(zigZag((Long) value));
+        } else if (value instanceof Float) {
+            this.writeByte(SnapshotFormat.FLOAT);
+            this.writeInt(Float.floatToIntBits((Float) value));
+        } else if (value instanceof Double) {
+            this.writeByte(SnapshotFormat.DOUBLE);
+            long bits = Double.doubleToLongBits((Double) value);
+            this.writeInt((int) (bits >>> 32));
+            this.writeInt((int) bits);
+        } else if (value instanceof BigInteger) {
+            this.writeByte(SnapshotFormat.BIG_INTEGER);
+            this.writeBigInteger((BigInteger) value);
+        } else if (value instanceof BigDecimal) {
+            this.writeByte(SnapshotFormat.BIG_DECIMAL);
+            this.writeVarLong(zigZag(((BigDecimal) value).scale()));
+            this.writeBigInteger(((BigDecimal) value).unscaledValue());
+        } else if (value instanceof String || value instanceof Character) {
+            this.writeByte(SnapshotFormat.STRING);
+            this.writeVarInt(this.indexes.get(value.toString()));
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            this.writeByte(SnapshotFormat.MAP);
+            this.writeVarInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                this.writeVarInt(this.indexes.get(String.valueOf(entry.getKey())));
+                this.write(entry.getValue());
+            }
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            this.writeByte(SnapshotFormat.LIST);
+            this.writeVarInt(collection.size());
+            for (Object element : collection) {
+                this.write(element);
+            }
+        } else {
+            throw new IllegalArgumentException("Cannot write " + value.getClass().getSimpleName() + " to a snapshot");
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private void writeBigInteger(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        this.writeVarInt(bytes.length);
+        this.writeBytes(bytes, bytes.length);
+    }
+
+    private void writeVarInt(int value) {
+        this.writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    private void writeVarLong(long value) {
+        this.ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            this.buffer[this.position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        this.ensure(4);
+        this.buffer[this.position++] = (byte) (value >>> 24);
+        this.buffer[this.position++] = (byte) (value >>> 16);
+        this.buffer[this.position++] = (byte) (value >>> 8);
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    private void writeByte(byte value) {
+        this.ensure(1);
+        this.buffer[this.position++] = value;
+    }
+
+    private void writeBytes(byte[] bytes, int length) {
+        this.ensure(length);
+        System.arraycopy(bytes, 0, this.buffer, this.position, length);
+        this.position += length;
+    }
+
+    private void ensure(int length) {
+        if (this.position + length > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(this.position + length, this.buffer.length * 2));
+        }
+    }
+}
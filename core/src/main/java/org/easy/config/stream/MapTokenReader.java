@@ -0,0 +1,107 @@
+package org.easy.config.stream;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Reads an already parsed tree of maps, collections and scalars as tokens
+ */
+public class MapTokenReader implements TokenReader {
+
+    private final Object root;
+    private final Deque<Iterator<?>> iterators = new ArrayDeque<>();
+    private final Deque<Boolean> objects = new ArrayDeque<>();
+    private boolean started;
+    private Object pendingValue;
+    private boolean hasPendingValue;
+
+    private Token peeked;
+    private String peekedKey;
+    private Object peekedScalar;
+    private String key;
+    private Object scalar;
+
+    public MapTokenReader(Object root) {
+        this.root = root;
+    }
+
+    @Override
+    public Token peek() {
+        if (this.peeked == null) {
+            this.peeked = this.advance();
+        }
+        return this.peeked;
+    }
+
+    @Override
+    public Token next() {
+        Token token = this.peek();
+        this.peeked = null;
+        if (token == Token.KEY) {
+            this.key = this.peekedKey;
+        } else if (token == Token.SCALAR) {
+            this.scalar = this.peekedScalar;
+        }
+        return token;
+    }
+
+    @Override
+    public String key() {
+        return this.key;
+    }
+
+    @Override
+    public Object scalar() {
+        return this.scalar;
+    }
+
+    private Token advance() {
+        if (this.hasPendingValue) {
+            Object value = this.pendingValue;
+            this.pendingValue = null;
+            this.hasPendingValue = false;
+            return this.enter(value);
+        }
+        if (!this.started) {
+            this.started = true;
+            return this.enter(this.root);
+        }
+        if (this.iterators.isEmpty()) {
+            return Token.END_DOCUMENT;
+        }
+        Iterator<?> iterator = this.iterators.peek();
+        boolean isObject = this.objects.peek();
+        if (!iterator.hasNext()) {
+            this.iterators.pop();
+            this.objects.pop();
+            return isObject ? Token.END_OBJECT : Token.END_ARRAY;
+        }
+        Object next = iterator.next();
+        if (!isObject) {
+            return this.enter(next);
+        }
+        Map.Entry<?, ?> entry = (Map.Entry<?, ?>) next;
+        this.peekedKey = String.valueOf(entry.getKey());
+        this.pendingValue = entry.getValue();
+        this.hasPendingValue = true;
+        return Token.KEY;
+    }
+
+    private Token enter(Object value) {
+        if (value instanceof Map) {
+            this.iterators.push(((Map<?, ?>) value).entrySet().iterator());
+            this.objects.push(true);
+            return Token.BEGIN_OBJECT;
+        }
+        if (value instanceof Collection) {
+            this.iterators.push(((Collection<?>) value).iterator());
+            this.objects.push(false);
+            return Token.BEGIN_ARRAY;
+        }
+        this.peekedScalar = value;
+        return Token.SCALAR;
+    }
+}
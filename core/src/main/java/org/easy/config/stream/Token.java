@@ -0,0 +1,12 @@
+package org.easy.config.stream;
+
+public enum Token {
+
+    BEGIN_OBJECT,
+    KEY,
+    END_OBJECT,
+    BEGIN_ARRAY,
+    END_ARRAY,
+    SCALAR,
+    END_DOCUMENT
+}
@@ -0,0 +1,95 @@
+package org.easy.config.stream;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pull style source of config tokens. Objects are read as {@link Token#BEGIN_OBJECT}, then a {@link Token#KEY}
+ * followed by its value for every entry, then {@link Token#END_OBJECT}. Arrays are read the same way without keys
+ */
+public interface TokenReader {
+
+    /**
+     * Gets the next token without consuming it
+     *
+     * @return the next token
+     * @throws Exception if the source cannot be read
+     */
+    Token peek() throws Exception;
+
+    /**
+     * Consumes the next token
+     *
+     * @return the consumed token
+     * @throws Exception if the source cannot be read
+     */
+    Token next() throws Exception;
+
+    /**
+     * @return the key of the last consumed {@link Token#KEY}
+     */
+    String key();
+
+    /**
+     * @return the value of the last consumed {@link Token#SCALAR}, which may be null
+     */
+    Object scalar();
+
+    /**
+     * Consumes the next value, including everything nested inside it
+     *
+     * @throws Exception if the source cannot be read
+     */
+    default void skipValue() throws Exception {
+        int depth = 0;
+        do {
+            Token token = this.next();
+            switch (token) {
+                case BEGIN_OBJECT:
+                case BEGIN_ARRAY:
+                    depth++;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    depth--;
+                    break;
+                case END_DOCUMENT:
+                    throw new IllegalStateException("Unexpected end of document");
+                default:
+                    break;
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Consumes the next value and builds the map, list or scalar it represents
+     *
+     * @return the value
+     * @throws Exception if the source cannot be read
+     */
+    default Object readValue() throws Exception {
+        Token token = this.next();
+        switch (token) {
+            case SCALAR:
+                return this.scalar();
+            case BEGIN_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                while (this.next() == Token.KEY) {
+                    String key = this.key();
+                    map.put(key, this.readValue());
+                }
+                return map;
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<>();
+                while (this.peek() != Token.END_ARRAY) {
+                    list.add(this.readValue());
+                }
+                this.next();
+                return list;
+            default:
+                throw new IllegalStateException("Expected a value but found " + token);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigField;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ClassModelTests {
+
+    @Test
+    public void testModelIsShared() {
+        //act
+        ClassModel first = ClassModel.of(TestClass.class);
+        ClassModel second = ClassModel.of(TestClass.class);
+
+        //assert
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    public void testResolvedFields() {
+        //act
+        List<ClassModel.FieldModel> fields = ClassModel.of(TestClass.class).fields();
+
+        //assert
+        Assertions.assertEquals(2, fields.size());
+        Assertions.assertEquals("fieldTest", fields.get(0).name());
+        Assertions.assertFalse(fields.get(0).isOptional());
+        Assertions.assertEquals("renamed", fields.get(1).name());
+        Assertions.assertTrue(fields.get(1).isOptional());
+    }
+
+    @Test
+    public void testLoadWithoutRenamedOptional() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("fieldTest", 1);
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.deserialize(toLoad);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertEquals(1, clazz.fieldTest);
+        Assertions.assertNull(clazz.optionalTest);
+    }
+
+    @Test
+    public void testLoadIgnoresKeyCase() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("FIELDTEST", 1);
+        toLoad.put("Renamed", "value");
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.deserialize(toLoad);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertEquals(1, clazz.fieldTest);
+        Assertions.assertEquals("value", clazz.optionalTest);
+    }
+
+    @Test
+    public void testLoadPrefersExactKey() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("FIELDTEST", 1);
+        toLoad.put("fieldTest", 2);
+        toLoad.put("fieldtest", 3);
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.deserialize(toLoad);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertEquals(2, clazz.fieldTest);
+    }
+
+    @Test
+    public void testNoConstructor() {
+        AutoSerializer<Object> serializer = new AutoSerializer<>(Object.class);
+
+        //act assert
+        Assertions.assertThrows(IllegalStateException.class, () -> serializer.deserialize(new HashMap<>()));
+    }
+
+    public static class TestClass {
+
+        private final int fieldTest;
+        @ConfigField(name = "renamed", optional = true)
+        private final String optionalTest;
+
+        @ConfigConstructor
+        public TestClass(int fieldTest, String optionalTest) {
+            this.fieldTest = fieldTest;
+            this.optionalTest = optionalTest;
+        }
+    }
+}
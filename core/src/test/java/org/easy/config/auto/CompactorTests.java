@@ -0,0 +1,111 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class CompactorTests {
+
+    @Test
+    public void testCanonical() {
+        Compactor compactor = new Compactor(1, 8);
+        String first = new String("region");
+        String second = new String("region");
+
+        //act
+        String canonicalFirst = compactor.canonical(first);
+        String canonicalSecond = compactor.canonical(second);
+        String full = compactor.canonical(new String("other"));
+
+        //assert
+        Assertions.assertSame(first, canonicalFirst);
+        Assertions.assertSame(first, canonicalSecond);
+        Assertions.assertEquals("other", full);
+        Assertions.assertEquals(1, compactor.size());
+    }
+
+    @Test
+    public void testCompactDeserialize() {
+        Compactor compactor = new Compactor();
+        AutoSerializer<TestClass> serializer = new AutoSerializer<TestClass>(TestClass.class).withCompaction(compactor);
+
+        //act
+        TestClass first;
+        TestClass second;
+        try {
+            first = serializer.deserialize(map());
+            second = serializer.deserialize(map());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertSame(first.region, second.region);
+        Assertions.assertSame(first.tags.get(0), second.tags.get(0));
+        Assertions.assertSame(first.inner.get(0).name, second.inner.get(0).name);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> first.tags.add("other"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> first.inner.clear());
+        Assertions.assertEquals(Arrays.asList("a", "b"), first.tags);
+    }
+
+    @Test
+    public void testCompactMaps() {
+        Compactor compactor = new Compactor();
+        Map<String, Object> raw = new LinkedHashMap<>();
+        raw.put(new String("second"), new String("value"));
+        raw.put("first", 1);
+        Map<Integer, String> numbered = new HashMap<>();
+        numbered.put(1, "one");
+        TreeMap<String, Integer> sorted = new TreeMap<>(Comparator.reverseOrder());
+        sorted.put("a", 1);
+        sorted.put("b", 2);
+
+        //act
+        Map<?, ?> compactRaw = (Map<?, ?>) compactor.compact(raw);
+        Object compactNumbered = compactor.compact(numbered);
+        Object compactSorted = compactor.compact(sorted);
+
+        //assert
+        Assertions.assertEquals(raw, compactRaw);
+        Assertions.assertEquals(Arrays.asList("second", "first"), new ArrayList<>(compactRaw.keySet()));
+        Assertions.assertSame(compactor.canonical("second"), compactRaw.keySet().iterator().next());
+        Assertions.assertSame(numbered, compactNumbered);
+        Assertions.assertSame(sorted, compactSorted);
+    }
+
+    private static Map<String, Object> map() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("region", new String("eu-west"));
+        map.put("tags", new ArrayList<>(Arrays.asList(new String("a"), new String("b"))));
+        map.put("inner", Collections.singletonList(Collections.singletonMap("name", new String("inner"))));
+        return map;
+    }
+
+    public static class InnerClass {
+
+        private final String name;
+
+        @ConfigConstructor
+        public InnerClass(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class TestClass {
+
+        private final String region;
+        private final List<String> tags;
+        @ConfigList(ofType = InnerClass.class)
+        private final List<InnerClass> inner;
+
+        @ConfigConstructor
+        public TestClass(String region, List<String> tags, List<InnerClass> inner) {
+            this.region = region;
+            this.tags = tags;
+            this.inner = inner;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class ConstructorAccessorTests {
+
+    @Test
+    public void testLoadWithWidening() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("fieldTest", 1);
+        toLoad.put("test", "value");
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.deserialize(toLoad);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertEquals(1L, clazz.fieldTest);
+        Assertions.assertEquals("value", clazz.test);
+    }
+
+    @Test
+    public void testInvalidLoadWithMismatch() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("fieldTest", true);
+        toLoad.put("test", "value");
+
+        //act assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> serializer.deserialize(toLoad));
+    }
+
+    @Test
+    public void testSerializePrivateFields() {
+        TestClass toSerialize = new TestClass(1L, "value");
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+
+        //act
+        Map<String, Object> entries;
+        try {
+            entries = serializer.serialize(toSerialize);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertEquals(1L, entries.get("fieldTest"));
+        Assertions.assertEquals("value", entries.get("test"));
+    }
+
+    @Test
+    public void testConstructorExceptionIsNotWrapped() {
+        AutoSerializer<ThrowingClass> serializer = new AutoSerializer<>(ThrowingClass.class);
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("test", "value");
+
+        //act assert
+        Assertions.assertThrows(IllegalStateException.class, () -> serializer.deserialize(toLoad));
+    }
+
+    @Test
+    public void testFallbackExceptionIsNotWrapped() {
+        //java.lang is not opened, so the private lookup is denied and the fallback is used
+        ConstructorAccessor accessor;
+        try {
+            accessor = ConstructorAccessor.of(StringBuilder.class.getConstructor(String.class));
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+
+        //act assert
+        Assertions.assertThrows(NullPointerException.class, () -> accessor.newInstance(new Object[]{null}));
+    }
+
+    private static class ThrowingClass {
+
+        private final String test;
+
+        @ConfigConstructor
+        private ThrowingClass(String test) {
+            throw new IllegalStateException(test);
+        }
+    }
+
+    private static class TestClass {
+
+        private final long fieldTest;
+        private final String test;
+
+        @ConfigConstructor
+        private TestClass(long fieldTest, String test) {
+            this.fieldTest = fieldTest;
+            this.test = test;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class FieldMapTests {
+
+    @Test
+    public void testDeclarationOrder() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+
+        //act
+        Map<String, Object> map;
+        try {
+            map = serializer.serialize(new TestClass("test", 1, true));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertEquals(Arrays.asList("zeta", "alpha", "middle"), new ArrayList<>(map.keySet()));
+        Assertions.assertEquals(1, map.get("alpha"));
+        Assertions.assertNull(map.get("unknown"));
+        Assertions.assertEquals(new HashMap<>(map), map);
+        Assertions.assertEquals(map, new HashMap<>(map));
+    }
+
+    @Test
+    public void testModify() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> map;
+        try {
+            map = serializer.serialize(new TestClass("test", 1, true));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //act
+        Object previous = map.put("alpha", 2);
+        map.put("added", "value");
+        map.remove("zeta");
+
+        //assert
+        Assertions.assertEquals(1, previous);
+        Assertions.assertEquals(Arrays.asList("alpha", "middle", "added"), new ArrayList<>(map.keySet()));
+        Assertions.assertEquals(2, map.get("alpha"));
+        Assertions.assertEquals(3, map.size());
+    }
+
+    @Test
+    public void testRemoveThroughViews() {
+        Map<String, Object> keyRemoved = map();
+        Map<String, Object> keyFiltered = map();
+        Map<String, Object> entryFiltered = map();
+        Map<String, Object> cleared = map();
+        Map<String, Object> iterated = map();
+
+        //act
+        boolean removed = keyRemoved.keySet().remove("alpha");
+        keyFiltered.keySet().removeIf(key -> key.startsWith("m"));
+        entryFiltered.entrySet().removeIf(entry -> Boolean.TRUE.equals(entry.getValue()) || "test".equals(entry.getValue()));
+        cleared.entrySet().clear();
+        List<String> seen = new ArrayList<>();
+        Iterator<String> iterator = iterated.keySet().iterator();
+        while (iterator.hasNext()) {
+            String key = iterator.next();
+            seen.add(key);
+            if (key.equals("zeta")) {
+                iterator.remove();
+            }
+        }
+
+        //assert
+        Assertions.assertTrue(removed);
+        Assertions.assertEquals(Arrays.asList("zeta", "middle"), new ArrayList<>(keyRemoved.keySet()));
+        Assertions.assertEquals(Arrays.asList("zeta", "alpha"), new ArrayList<>(keyFiltered.keySet()));
+        Assertions.assertEquals(Collections.singletonMap("alpha", 1), entryFiltered);
+        Assertions.assertTrue(cleared.isEmpty());
+        Assertions.assertEquals(Arrays.asList("zeta", "alpha", "middle"), seen);
+        Assertions.assertEquals(Arrays.asList("alpha", "middle"), new ArrayList<>(iterated.keySet()));
+    }
+
+    @Test
+    public void testEntryAfterCopy() {
+        Map<String, Object> map = map();
+        Map.Entry<String, Object> entry = map.entrySet().iterator().next();
+
+        //act
+        map.put("added", "value");
+        Object previous = entry.setValue("changed");
+
+        //assert
+        Assertions.assertEquals("test", previous);
+        Assertions.assertEquals("changed", map.get("zeta"));
+        Assertions.assertEquals("changed", entry.getValue());
+    }
+
+    private static Map<String, Object> map() {
+        try {
+            return new AutoSerializer<TestClass>(TestClass.class).serialize(new TestClass("test", 1, true));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static class TestClass {
+
+        private final String zeta;
+        private final int alpha;
+        private final boolean middle;
+
+        @ConfigConstructor
+        public TestClass(String zeta, int alpha, boolean middle) {
+            this.zeta = zeta;
+            this.alpha = alpha;
+            this.middle = middle;
+        }
+    }
+}
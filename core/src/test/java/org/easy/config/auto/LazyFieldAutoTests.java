@@ -0,0 +1,118 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigList;
+import org.easy.config.stream.MapTokenReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class LazyFieldAutoTests {
+
+    @Test
+    public void testNotLoadedOnDeserialize() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.deserialize(map(Collections.singletonMap("value", 1)));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertFalse(clazz.inner.isLoaded());
+        Assertions.assertFalse(clazz.list.isLoaded());
+        Assertions.assertEquals(1, clazz.inner.get().value);
+        Assertions.assertEquals(2, clazz.list.get().size());
+        Assertions.assertEquals(1, clazz.list.get().get(1).value);
+        Assertions.assertTrue(clazz.inner.isLoaded());
+    }
+
+    @Test
+    public void testInvalidValueFailsOnGet() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.deserialize(map(Collections.singletonMap("value", "text")));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> clazz.inner.get());
+        Assertions.assertFalse(clazz.inner.isLoaded());
+    }
+
+    @Test
+    public void testStreamedNotLoaded() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.read(new MapTokenReader(map(Collections.singletonMap("value", 1))));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertFalse(clazz.list.isLoaded());
+        Assertions.assertEquals(1, clazz.list.get().get(0).value);
+    }
+
+    @Test
+    public void testSerialize() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> inner = Collections.singletonMap("value", 1);
+        TestClass clazz = new TestClass(Lazy.of(new InnerClass(2)), Lazy.of(Collections.emptyList()));
+
+        //act
+        Map<String, Object> loadedMap;
+        Map<String, Object> notLoadedMap;
+        try {
+            loadedMap = serializer.serialize(clazz);
+            notLoadedMap = serializer.serialize(serializer.deserialize(map(inner)));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertEquals(Collections.singletonMap("value", 2), loadedMap.get("inner"));
+        Assertions.assertSame(inner, notLoadedMap.get("inner"));
+    }
+
+    private static Map<String, Object> map(Map<String, Object> inner) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("inner", inner);
+        map.put("list", Arrays.asList(inner, inner));
+        return map;
+    }
+
+    public static class InnerClass {
+
+        private final int value;
+
+        @ConfigConstructor
+        public InnerClass(int value) {
+            this.value = value;
+        }
+    }
+
+    public static class TestClass {
+
+        private final Lazy<InnerClass> inner;
+        @ConfigList(ofType = InnerClass.class)
+        private final Lazy<List<InnerClass>> list;
+
+        @ConfigConstructor
+        public TestClass(Lazy<InnerClass> inner, Lazy<List<InnerClass>> list) {
+            this.inner = inner;
+            this.list = list;
+        }
+    }
+}
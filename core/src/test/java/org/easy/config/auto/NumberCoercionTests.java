@@ -0,0 +1,120 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigField;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+public class NumberCoercionTests {
+
+    @Test
+    public void testWidening() {
+        //act
+        Object asLong = NumberCoercion.of(long.class, false).coerce(1);
+        Object asDouble = NumberCoercion.of(Double.class, false).coerce(5L);
+        Object asDecimal = NumberCoercion.of(BigDecimal.class, false).coerce(2.5);
+
+        //assert
+        Assertions.assertEquals(1L, asLong);
+        Assertions.assertEquals(5.0, asDouble);
+        Assertions.assertEquals(new BigDecimal("2.5"), asDecimal);
+    }
+
+    @Test
+    public void testNarrowing() {
+        NumberCoercion coercion = NumberCoercion.of(int.class, false);
+
+        //act
+        Object fromLong = coercion.coerce(8080L);
+        Object fromDouble = coercion.coerce(8080.0);
+        Object fromDecimal = coercion.coerce(new BigDecimal("8080.00"));
+        Object tooLarge = coercion.coerce(5000000000L);
+        Object fraction = coercion.coerce(2.5);
+        Object toFloat = NumberCoercion.of(float.class, false).coerce(0.1);
+
+        //assert
+        Assertions.assertEquals(8080, fromLong);
+        Assertions.assertEquals(8080, fromDouble);
+        Assertions.assertEquals(8080, fromDecimal);
+        Assertions.assertSame(NumberCoercion.OUT_OF_RANGE, tooLarge);
+        Assertions.assertSame(NumberCoercion.MISMATCH, fraction);
+        Assertions.assertEquals(0.1f, toFloat);
+        Assertions.assertSame(NumberCoercion.OUT_OF_RANGE, NumberCoercion.of(byte.class, false).coerce(BigInteger.TEN.pow(30)));
+    }
+
+    @Test
+    public void testStrings() {
+        //act
+        Object strict = NumberCoercion.of(int.class, false).coerce("8080");
+        Object parsed = NumberCoercion.of(int.class, true).coerce(" 8080 ");
+        Object invalid = NumberCoercion.of(int.class, true).coerce("eighty");
+
+        //assert
+        Assertions.assertSame(NumberCoercion.MISMATCH, strict);
+        Assertions.assertEquals(8080, parsed);
+        Assertions.assertSame(NumberCoercion.MISMATCH, invalid);
+        Assertions.assertNull(NumberCoercion.of(String.class, true));
+    }
+
+    @Test
+    public void testDeserialize() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("count", 3L);
+        toLoad.put("ratio", 0.5);
+        toLoad.put("total", 10);
+        toLoad.put("port", "8080");
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.deserialize(toLoad);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertEquals(3, clazz.count);
+        Assertions.assertEquals(0.5f, clazz.ratio);
+        Assertions.assertEquals(BigInteger.TEN, clazz.total);
+        Assertions.assertEquals(8080, clazz.port);
+    }
+
+    @Test
+    public void testOutOfRange() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("count", 5000000000L);
+        toLoad.put("ratio", 0.5);
+        toLoad.put("total", 10);
+        toLoad.put("port", 8080);
+
+        //act
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> serializer.deserialize(toLoad));
+
+        //assert
+        Assertions.assertTrue(exception.getMessage().contains("out of range"));
+    }
+
+    public static class TestClass {
+
+        private final int count;
+        private final float ratio;
+        private final BigInteger total;
+        @ConfigField(parseNumbers = true)
+        private final int port;
+
+        @ConfigConstructor
+        public TestClass(int count, float ratio, BigInteger total, int port) {
+            this.count = count;
+            this.ratio = ratio;
+            this.total = total;
+            this.port = port;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelListAutoTests {
+
+    @Test
+    public void testKeepsOrder() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        AutoSerializer<TestClass> serializer = new AutoSerializer<TestClass>(TestClass.class).withParallelLists(10, pool);
+        Map<String, Object> toLoad = map(1000, -1);
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.deserialize(toLoad);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            pool.shutdown();
+        }
+
+        //assert
+        Assertions.assertEquals(1000, clazz.list.size());
+        for (int i = 0; i < clazz.list.size(); i++) {
+            Assertions.assertEquals(i, clazz.list.get(i).value);
+        }
+    }
+
+    @Test
+    public void testFailuresHaveIndex() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<TestClass>(TestClass.class).withParallelLists(10);
+        Map<String, Object> toLoad = map(1000, 700);
+
+        //act
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> serializer.deserialize(toLoad));
+
+        //assert
+        Assertions.assertTrue(exception.getMessage().contains("first at index 700"));
+        Assertions.assertEquals(1, exception.getSuppressed().length);
+        Assertions.assertEquals("Element 700", exception.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    public void testSequentialFailuresHaveIndex() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toLoad = map(10, 3);
+
+        //act
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> serializer.deserialize(toLoad));
+
+        //assert
+        Assertions.assertTrue(exception.getMessage().contains("first at index 3"));
+    }
+
+    @Test
+    public void testSequentialStopsAtFirstFailure() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        List<Object> list = new ArrayList<>((List<?>) map(10, 3).get("list"));
+        list.set(5, Collections.singletonMap("value", "text"));
+
+        //act
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> serializer.deserialize(Collections.singletonMap("list", list)));
+
+        //assert
+        Assertions.assertTrue(exception.getMessage().startsWith("Cannot deserialize 1 of 10"), exception.getMessage());
+    }
+
+    @Test
+    public void testListsAreMutable() {
+        AutoSerializer<TestClass> sequential = new AutoSerializer<>(TestClass.class);
+        AutoSerializer<TestClass> parallel = new AutoSerializer<TestClass>(TestClass.class).withParallelLists(10);
+
+        //act
+        TestClass sequentialClazz;
+        TestClass parallelClazz;
+        try {
+            sequentialClazz = sequential.deserialize(map(5, -1));
+            parallelClazz = parallel.deserialize(map(100, -1));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        sequentialClazz.list.add(new InnerClass(5));
+        parallelClazz.list.add(new InnerClass(100));
+
+        //assert
+        Assertions.assertEquals(6, sequentialClazz.list.size());
+        Assertions.assertEquals(101, parallelClazz.list.size());
+    }
+
+    private static Map<String, Object> map(int size, int invalid) {
+        List<Object> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(Collections.singletonMap("value", i == invalid ? (Object) "text" : (Object) i));
+        }
+        return Collections.singletonMap("list", list);
+    }
+
+    public static class InnerClass {
+
+        private final int value;
+
+        @ConfigConstructor
+        public InnerClass(int value) {
+            this.value = value;
+        }
+    }
+
+    public static class TestClass {
+
+        @ConfigList(ofType = InnerClass.class)
+        private final List<InnerClass> list;
+
+        @ConfigConstructor
+        public TestClass(List<InnerClass> list) {
+            this.list = list;
+        }
+    }
+}
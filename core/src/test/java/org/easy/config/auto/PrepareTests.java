@@ -0,0 +1,147 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigField;
+import org.easy.config.auto.annotations.ConfigList;
+import org.easy.config.json.JsonTests;
+import org.easy.config.metrics.InMemoryMetrics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+public class PrepareTests {
+
+    @Test
+    public void testPrepareValid() {
+        //act
+        PrepareReport report = AutoSerializer.prepare(ValidClass.class);
+
+        //assert
+        Assertions.assertTrue(report.isValid(), report.toString());
+        Assertions.assertTrue(report.timings().containsKey(ValidClass.class));
+        Assertions.assertTrue(report.timings().containsKey(InnerClass.class));
+        Assertions.assertTrue(report.timings().containsKey(ItemClass.class));
+    }
+
+    @Test
+    public void testPreparedRegistry() {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        SerializerRegistry registry = SerializerRegistry.withCommon(Collections.emptyList()).withMetrics(metrics);
+        PrepareReport report = AutoSerializer.prepare(registry, Collections.singletonList(ValidClass.class));
+        long resolved = metrics.serializerLookups() - metrics.serializerCacheHits();
+        ValidClass value = new ValidClass(1, LocalDate.of(2020, 1, 1), new InnerClass(true), Collections.singletonList(new ItemClass("item")));
+
+        //act
+        try {
+            new AutoSerializer<ValidClass>(ValidClass.class, report.registry()).serialize(value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertSame(registry, report.registry());
+        Assertions.assertEquals(resolved, metrics.serializerLookups() - metrics.serializerCacheHits());
+    }
+
+    @Test
+    public void testPrepareInvalid() {
+        //act
+        PrepareReport report = AutoSerializer.prepare(InvalidClass.class, NoConstructorClass.class);
+
+        //assert
+        Assertions.assertFalse(report.isValid());
+        Assertions.assertEquals(3, report.issues().size(), report.toString());
+        Assertions.assertTrue(report.issues().stream().anyMatch(issue -> issue.code() == PrepareReport.Code.MISSING_SERIALIZER && "id".equals(issue.field())));
+        Assertions.assertTrue(report.issues().stream().anyMatch(issue -> issue.code() == PrepareReport.Code.MISSING_CONSTRUCTOR && issue.type() == NoConstructorClass.class));
+        Assertions.assertTrue(report.issues().stream().anyMatch(issue -> issue.code() == PrepareReport.Code.MISSING_CONSTRUCTOR && issue.type() == ItemWithoutConstructor.class));
+    }
+
+    @Test
+    public void testPreparePackage() {
+        //act
+        PrepareReport report;
+        try {
+            report = AutoSerializer.prepare("org.easy.config.json");
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertTrue(report.isValid(), report.toString());
+        Assertions.assertTrue(report.timings().containsKey(JsonTests.TestClass.class));
+        Assertions.assertTrue(report.timings().containsKey(JsonTests.Item.class));
+    }
+
+    public static class InnerClass {
+
+        private final boolean example;
+
+        @ConfigConstructor
+        public InnerClass(boolean example) {
+            this.example = example;
+        }
+    }
+
+    public static class ItemClass {
+
+        private final String name;
+
+        @ConfigConstructor
+        public ItemClass(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class ValidClass {
+
+        private final int value;
+        private final LocalDate date;
+        @ConfigField(auto = InnerClass.class)
+        private final Object inner;
+        @ConfigList(ofType = ItemClass.class)
+        private final List<ItemClass> items;
+
+        @ConfigConstructor
+        public ValidClass(int value, LocalDate date, Object inner, List<ItemClass> items) {
+            this.value = value;
+            this.date = date;
+            this.inner = inner;
+            this.items = items;
+        }
+    }
+
+    public static class ItemWithoutConstructor {
+
+        private final String name;
+
+        public ItemWithoutConstructor(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class InvalidClass {
+
+        private final UUID id;
+        @ConfigList(ofType = ItemWithoutConstructor.class)
+        private final List<ItemWithoutConstructor> items;
+
+        @ConfigConstructor
+        public InvalidClass(UUID id, List<ItemWithoutConstructor> items) {
+            this.id = id;
+            this.items = items;
+        }
+    }
+
+    public static class NoConstructorClass {
+
+        private final String name;
+
+        public NoConstructorClass(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigList;
+import org.easy.config.json.Json;
+import org.easy.config.json.JsonReader;
+import org.easy.config.stream.MapTokenReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class PrimitiveArrayAutoTests {
+
+    @Test
+    public void testDeserialize() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.deserialize(map());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertArrayEquals(new int[]{1, 2, 3}, clazz.ints);
+        Assertions.assertArrayEquals(new long[]{1, 5000000000L}, clazz.longs);
+        Assertions.assertArrayEquals(new double[]{1, 2.5}, clazz.doubles);
+        Assertions.assertEquals(Arrays.asList(1.0, 2.5), clazz.list);
+    }
+
+    @Test
+    public void testRead() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.read(new MapTokenReader(map()));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertArrayEquals(new int[]{1, 2, 3}, clazz.ints);
+        Assertions.assertArrayEquals(new double[]{1, 2.5}, clazz.doubles);
+    }
+
+    @Test
+    public void testInvalidElement() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toLoad = map();
+        toLoad.put("ints", Arrays.asList(1, 2.5));
+
+        //act
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> serializer.deserialize(toLoad));
+
+        //assert
+        Assertions.assertTrue(exception.getMessage().startsWith("Element 1"));
+    }
+
+    @Test
+    public void testSerialize() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> map;
+        TestClass clazz;
+
+        //act
+        try {
+            map = serializer.serialize(serializer.deserialize(map()));
+            clazz = serializer.deserialize(map);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), map.get("ints"));
+        Assertions.assertEquals(Arrays.asList(1.0, 2.5), map.get("doubles"));
+        Assertions.assertArrayEquals(new long[]{1, 5000000000L}, clazz.longs);
+    }
+
+    @Test
+    public void testJsonRoundTrip() {
+        AutoSerializer<OtherClass> serializer = new AutoSerializer<>(OtherClass.class);
+        OtherClass toWrite = new OtherClass(new char[]{'a', '"'}, new float[]{1.5f, 2}, new short[]{-3, 4}, new byte[]{5, -6}, new boolean[]{true, false});
+
+        //act
+        OtherClass fromMap;
+        OtherClass fromReader;
+        ValidationReport report;
+        try {
+            String json = Json.toJson(serializer.serialize(toWrite));
+            Map<String, Object> map = (Map<String, Object>) Json.parse(json);
+            fromMap = serializer.deserialize(map);
+            fromReader = serializer.read(new JsonReader(json));
+            report = serializer.validate(map);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertTrue(report.isValid(), report.toString());
+        for (OtherClass clazz : Arrays.asList(fromMap, fromReader)) {
+            Assertions.assertArrayEquals(toWrite.chars, clazz.chars);
+            Assertions.assertArrayEquals(toWrite.floats, clazz.floats);
+            Assertions.assertArrayEquals(toWrite.shorts, clazz.shorts);
+            Assertions.assertArrayEquals(toWrite.bytes, clazz.bytes);
+            Assertions.assertArrayEquals(toWrite.booleans, clazz.booleans);
+        }
+    }
+
+    private static Map<String, Object> map() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("ints", Arrays.asList(1, 2, 3));
+        map.put("longs", Arrays.asList(1, 5000000000L));
+        map.put("doubles", Arrays.asList(1, 2.5));
+        map.put("list", Arrays.asList(1, 2.5));
+        return map;
+    }
+
+    public static class TestClass {
+
+        private final int[] ints;
+        private final long[] longs;
+        private final double[] doubles;
+        @ConfigList(ofType = double.class)
+        private final List<Double> list;
+
+        @ConfigConstructor
+        public TestClass(int[] ints, long[] longs, double[] doubles, List<Double> list) {
+            this.ints = ints;
+            this.longs = longs;
+            this.doubles = doubles;
+            this.list = list;
+        }
+    }
+
+    public static class OtherClass {
+
+        private final char[] chars;
+        private final float[] floats;
+        private final short[] shorts;
+        private final byte[] bytes;
+        private final boolean[] booleans;
+
+        @ConfigConstructor
+        public OtherClass(char[] chars, float[] floats, short[] shorts, byte[] bytes, boolean[] booleans) {
+            this.chars = chars;
+            this.floats = floats;
+            this.shorts = shorts;
+            this.bytes = bytes;
+            this.booleans = booleans;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigList;
+import org.easy.config.json.Json;
+import org.easy.config.json.JsonReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class ReferenceAutoTests {
+
+    @Test
+    public void testSerializeShared() {
+        Policy policy = new Policy(3);
+        Service service = new Service(Arrays.asList(new Endpoint("a", policy), new Endpoint("b", policy), new Endpoint("c", new Policy(5))));
+        AutoSerializer<Service> serializer = new AutoSerializer<Service>(Service.class).withReferences();
+
+        //act
+        Map<String, Object> map;
+        try {
+            map = serializer.serialize(service);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        List<Map<String, Object>> endpoints = (List<Map<String, Object>>) map.get("endpoints");
+        Map<String, Object> first = (Map<String, Object>) endpoints.get(0).get("policy");
+        Assertions.assertEquals(1, first.get(AutoSerializer.ID_KEY));
+        Assertions.assertEquals(3, first.get("retries"));
+        Assertions.assertEquals(Collections.singletonMap(AutoSerializer.REFERENCE_KEY, 1), endpoints.get(1).get("policy"));
+        Assertions.assertFalse(((Map<String, Object>) endpoints.get(2).get("policy")).containsKey(AutoSerializer.ID_KEY));
+    }
+
+    @Test
+    public void testDeserializeShared() {
+        Policy policy = new Policy(3);
+        Service service = new Service(Arrays.asList(new Endpoint("a", policy), new Endpoint("b", policy), new Endpoint("c", new Policy(5))));
+        AutoSerializer<Service> serializer = new AutoSerializer<Service>(Service.class).withReferences();
+
+        //act
+        Service fromMap;
+        Service fromReader;
+        try {
+            String json = Json.toJson(serializer.serialize(service));
+            fromMap = serializer.deserialize((Map<String, Object>) Json.parse(json));
+            fromReader = serializer.read(new JsonReader(json));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        for (Service read : Arrays.asList(fromMap, fromReader)) {
+            Assertions.assertSame(read.endpoints.get(0).policy, read.endpoints.get(1).policy);
+            Assertions.assertNotSame(read.endpoints.get(0).policy, read.endpoints.get(2).policy);
+            Assertions.assertEquals(3, read.endpoints.get(1).policy.retries);
+            Assertions.assertEquals(5, read.endpoints.get(2).policy.retries);
+        }
+    }
+
+    @Test
+    public void testWithoutReferences() {
+        Policy policy = new Policy(3);
+        Service service = new Service(Arrays.asList(new Endpoint("a", policy), new Endpoint("b", policy)));
+        AutoSerializer<Service> serializer = new AutoSerializer<>(Service.class);
+
+        //act
+        Service read;
+        try {
+            read = serializer.deserialize(serializer.serialize(service));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertNotSame(read.endpoints.get(0).policy, read.endpoints.get(1).policy);
+    }
+
+    @Test
+    public void testCycle() {
+        Node node = new Node("loop", null);
+        node.next = node;
+        AutoSerializer<Node> serializer = new AutoSerializer<Node>(Node.class).withReferences();
+
+        //act assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> serializer.serialize(node));
+    }
+
+    @Test
+    public void testUnknownReference() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", "a");
+        map.put("policy", Collections.singletonMap(AutoSerializer.REFERENCE_KEY, 7));
+        AutoSerializer<Endpoint> serializer = new AutoSerializer<Endpoint>(Endpoint.class).withReferences();
+
+        //act assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> serializer.deserialize(map));
+    }
+
+    @Test
+    public void testLazyShared() {
+        Policy policy = new Policy(3);
+        Holder holder = new Holder(Lazy.of(policy), policy);
+        AutoSerializer<Holder> serializer = new AutoSerializer<Holder>(Holder.class).withReferences();
+
+        //act
+        Map<String, Object> map;
+        Holder fromMap;
+        Holder fromReader;
+        Map<String, Object> rewritten;
+        try {
+            map = serializer.serialize(holder);
+            String json = Json.toJson(map);
+            fromMap = serializer.deserialize((Map<String, Object>) Json.parse(json));
+            fromReader = serializer.read(new JsonReader(json));
+            rewritten = serializer.serialize(fromMap);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertFalse(((Map<String, Object>) map.get("lazy")).containsKey(AutoSerializer.ID_KEY));
+        Assertions.assertFalse(((Map<String, Object>) map.get("direct")).containsKey(AutoSerializer.REFERENCE_KEY));
+        for (Holder read : Arrays.asList(fromMap, fromReader)) {
+            Assertions.assertEquals(3, read.direct.retries);
+            Assertions.assertEquals(3, read.lazy.get().retries);
+        }
+        Assertions.assertEquals(map, rewritten);
+    }
+
+    public static class Policy {
+
+        private final int retries;
+
+        @ConfigConstructor
+        public Policy(int retries) {
+            this.retries = retries;
+        }
+    }
+
+    public static class Endpoint {
+
+        private final String name;
+        private final Policy policy;
+
+        @ConfigConstructor
+        public Endpoint(String name, Policy policy) {
+            this.name = name;
+            this.policy = policy;
+        }
+    }
+
+    public static class Service {
+
+        @ConfigList(ofType = Endpoint.class)
+        private final List<Endpoint> endpoints;
+
+        @ConfigConstructor
+        public Service(List<Endpoint> endpoints) {
+            this.endpoints = endpoints;
+        }
+    }
+
+    public static class Holder {
+
+        private final Lazy<Policy> lazy;
+        private final Policy direct;
+
+        @ConfigConstructor
+        public Holder(Lazy<Policy> lazy, Policy direct) {
+            this.lazy = lazy;
+            this.direct = direct;
+        }
+    }
+
+    public static class Node {
+
+        private final String name;
+        private Node next;
+
+        @ConfigConstructor
+        public Node(String name, Node next) {
+            this.name = name;
+            this.next = next;
+        }
+    }
+}
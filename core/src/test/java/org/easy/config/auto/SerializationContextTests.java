@@ -0,0 +1,31 @@
+package org.easy.config.auto;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SerializationContextTests {
+
+    @Test
+    public void testAcquireSiblingsOfDifferentSize() {
+        SerializationContext context = new SerializationContext(new AutoSerializer<>(Object.class));
+        Object[] root = context.acquire(3);
+        Object[] small = context.acquire(2);
+        small[0] = "value";
+        context.release(small);
+        Object[] large = context.acquire(5);
+        context.release(large);
+
+        //act
+        Object[] smallAgain = context.acquire(2);
+        context.release(smallAgain);
+        Object[] largeAgain = context.acquire(5);
+        context.release(largeAgain);
+        context.release(root);
+
+        //assert
+        Assertions.assertSame(small, smallAgain);
+        Assertions.assertSame(large, largeAgain);
+        Assertions.assertNull(smallAgain[0]);
+        Assertions.assertEquals(5, largeAgain.length);
+    }
+}
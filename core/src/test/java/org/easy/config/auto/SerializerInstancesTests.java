@@ -0,0 +1,51 @@
+package org.easy.config.auto;
+
+import org.easy.config.Serializer;
+import org.easy.config.common.LocalDateSerializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SerializerInstancesTests {
+
+    @Test
+    public void testStatelessIsShared() {
+        //act
+        Serializer<?, ?> first = SerializerInstances.get(LocalDateSerializer.class);
+        Serializer<?, ?> second = SerializerInstances.get(LocalDateSerializer.class);
+
+        //assert
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    public void testStatefulIsNotShared() {
+        //act
+        Serializer<?, ?> first = SerializerInstances.get(StatefulSerializer.class);
+        Serializer<?, ?> second = SerializerInstances.get(StatefulSerializer.class);
+
+        //assert
+        Assertions.assertNotSame(first, second);
+    }
+
+    private static class StatefulSerializer implements Serializer.Text<String>, Serializer.Stateful {
+
+        private int count;
+
+        @Override
+        public String serialize(String value) {
+            this.count++;
+            return value;
+        }
+
+        @Override
+        public String deserialize(String type) {
+            this.count++;
+            return type;
+        }
+
+        @Override
+        public Class<?> ofType() {
+            return String.class;
+        }
+    }
+}
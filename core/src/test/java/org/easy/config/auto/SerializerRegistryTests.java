@@ -0,0 +1,91 @@
+package org.easy.config.auto;
+
+import org.easy.config.Serializer;
+import org.easy.config.common.CommonJavaSerializers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class SerializerRegistryTests {
+
+    @Test
+    public void testMostSpecificWins() {
+        TestSerializer number = new TestSerializer(Number.class);
+        TestSerializer integer = new TestSerializer(Integer.class);
+        SerializerRegistry registry = new SerializerRegistry(Arrays.asList(number, integer));
+
+        //act
+        Serializer<?, ?> forInteger = registry.find(Integer.class).orElse(null);
+        Serializer<?, ?> forLong = registry.find(Long.class).orElse(null);
+
+        //assert
+        Assertions.assertSame(integer, forInteger);
+        Assertions.assertSame(number, forLong);
+    }
+
+    @Test
+    public void testInterfaceLookup() {
+        TestSerializer list = new TestSerializer(List.class);
+        TestSerializer iterable = new TestSerializer(Iterable.class);
+        SerializerRegistry registry = new SerializerRegistry(Arrays.asList(iterable, list));
+
+        //act
+        Serializer<?, ?> forArrayList = registry.find(ArrayList.class).orElse(null);
+
+        //assert
+        Assertions.assertSame(list, forArrayList);
+    }
+
+    @Test
+    public void testFirstRegisteredWins() {
+        TestSerializer first = new TestSerializer(Integer.class);
+        TestSerializer second = new TestSerializer(Integer.class);
+        SerializerRegistry registry = new SerializerRegistry(Arrays.asList(first, second));
+
+        //act
+        Serializer<?, ?> found = registry.find(Integer.class).orElse(null);
+
+        //assert
+        Assertions.assertSame(first, found);
+    }
+
+    @Test
+    public void testWithCommon() {
+        SerializerRegistry registry = SerializerRegistry.withCommon(Collections.emptyList());
+
+        //act assert
+        Assertions.assertSame(CommonJavaSerializers.FILE, registry.find(File.class).orElse(null));
+        Assertions.assertSame(CommonJavaSerializers.DATE, registry.find(LocalDate.class).orElse(null));
+        Assertions.assertFalse(registry.find(String.class).isPresent());
+    }
+
+    private static class TestSerializer implements Serializer<Object, Object> {
+
+        private final Class<?> type;
+
+        private TestSerializer(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object serialize(Object value) {
+            return value;
+        }
+
+        @Override
+        public Object deserialize(Object type) {
+            return type;
+        }
+
+        @Override
+        public Class<?> ofType() {
+            return this.type;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.json.JsonReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class ShadowedFieldAutoTests {
+
+    @Test
+    public void testLoad() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("name", "x");
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.deserialize(toLoad);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertEquals("x", clazz.name);
+        Assertions.assertEquals("x", ((ExtendingFrom) clazz).name);
+    }
+
+    @Test
+    public void testLoadIgnoringCase() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("NAME", "x");
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.deserialize(toLoad);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertEquals("x", clazz.name);
+        Assertions.assertEquals("x", ((ExtendingFrom) clazz).name);
+    }
+
+    @Test
+    public void testRead() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+
+        //act
+        TestClass clazz;
+        try {
+            clazz = serializer.read(new JsonReader("{\"name\": \"x\"}"));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        //assert
+        Assertions.assertEquals("x", clazz.name);
+        Assertions.assertEquals("x", ((ExtendingFrom) clazz).name);
+    }
+
+    public static class ExtendingFrom {
+        final String name;
+
+        protected ExtendingFrom(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class TestClass extends ExtendingFrom {
+
+        private final String name;
+
+        @ConfigConstructor
+        public TestClass(String parentName, String name) {
+            super(parentName);
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.easy.config.auto;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class ValidationTests {
+
+    @Test
+    public void testValid() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+
+        //act
+        ValidationReport report = serializer.validate(map());
+
+        //assert
+        Assertions.assertTrue(report.isValid(), report::toString);
+    }
+
+    @Test
+    public void testCollectsAll() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toValidate = map();
+        toValidate.remove("name");
+        toValidate.put("servers", Arrays.asList(server(80), server(5000000000L), "text", server(true)));
+        toValidate.put("date", Collections.singletonMap("year", 2020));
+
+        //act
+        ValidationReport report = serializer.validate(toValidate);
+        Map<String, ValidationError.Code> errors = report.errors().stream().collect(Collectors.toMap(ValidationError::path, ValidationError::code));
+
+        //assert
+        Assertions.assertFalse(report.isValid());
+        Assertions.assertEquals(5, errors.size(), report::toString);
+        Assertions.assertEquals(ValidationError.Code.MISSING, errors.get("name"));
+        Assertions.assertEquals(ValidationError.Code.OUT_OF_RANGE, errors.get("servers[1].port"));
+        Assertions.assertEquals(ValidationError.Code.TYPE_MISMATCH, errors.get("servers[2]"));
+        Assertions.assertEquals(ValidationError.Code.TYPE_MISMATCH, errors.get("servers[3].port"));
+        Assertions.assertEquals(ValidationError.Code.INVALID_VALUE, errors.get("date"));
+    }
+
+    @Test
+    public void testMessage() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toValidate = map();
+        toValidate.put("servers", Collections.singletonList(server("text")));
+
+        //act
+        ValidationError error = serializer.validate(toValidate).errors().get(0);
+
+        //assert
+        Assertions.assertEquals("servers[0].port expected int but was String", error.message());
+    }
+
+    private static Map<String, Object> server(Object port) {
+        return Collections.singletonMap("port", port);
+    }
+
+    private static Map<String, Object> map() {
+        Map<String, Object> date = new HashMap<>();
+        date.put("year", 2020);
+        date.put("month", 2);
+        date.put("day-of-month", 29);
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", "test");
+        map.put("date", date);
+        map.put("servers", Arrays.asList(server(80), server(443L)));
+        return map;
+    }
+
+    public static class Server {
+
+        private final int port;
+
+        @ConfigConstructor
+        public Server(int port) {
+            this.port = port;
+        }
+    }
+
+    public static class TestClass {
+
+        private final String name;
+        private final LocalDate date;
+        @ConfigList(ofType = Server.class)
+        private final List<Server> servers;
+
+        @ConfigConstructor
+        public TestClass(String name, LocalDate date, List<Server> servers) {
+            this.name = name;
+            this.date = date;
+            this.servers = servers;
+        }
+    }
+}
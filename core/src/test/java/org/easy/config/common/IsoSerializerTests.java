@@ -0,0 +1,90 @@
+package org.easy.config.common;
+
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigField;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+public class IsoSerializerTests {
+
+    @Test
+    public void testParse() throws Exception {
+        //act
+        LocalDate date = CommonJavaSerializers.ISO_DATE.deserialize("2020-02-29");
+        LocalDate longYear = CommonJavaSerializers.ISO_DATE.deserialize("+12020-02-29");
+        LocalTime time = CommonJavaSerializers.ISO_TIME.deserialize("13:45");
+        LocalTime fraction = CommonJavaSerializers.ISO_TIME.deserialize("13:45:30.25");
+        LocalDateTime dateTime = CommonJavaSerializers.ISO_DATE_TIME.deserialize("2020-02-29T13:45:30.000000001");
+
+        //assert
+        Assertions.assertEquals(LocalDate.of(2020, 2, 29), date);
+        Assertions.assertEquals(LocalDate.of(12020, 2, 29), longYear);
+        Assertions.assertEquals(LocalTime.of(13, 45), time);
+        Assertions.assertEquals(LocalTime.of(13, 45, 30, 250_000_000), fraction);
+        Assertions.assertEquals(LocalDateTime.of(2020, 2, 29, 13, 45, 30, 1), dateTime);
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        LocalDateTime value = LocalDateTime.of(2020, 2, 29, 13, 45, 30, 120_000_000);
+
+        //act
+        String text = CommonJavaSerializers.ISO_DATE_TIME.serialize(value);
+
+        //assert
+        Assertions.assertEquals("2020-02-29T13:45:30.120", text);
+        Assertions.assertEquals(value, CommonJavaSerializers.ISO_DATE_TIME.deserialize(text));
+    }
+
+    @Test
+    public void testInvalid() {
+        //act assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CommonJavaSerializers.ISO_DATE.deserialize("2020-2-29"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CommonJavaSerializers.ISO_DATE.deserialize("2021-02-29"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CommonJavaSerializers.ISO_TIME.deserialize("13:45:3"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CommonJavaSerializers.ISO_DATE_TIME.deserialize("2020-02-29 13:45"));
+    }
+
+    @Test
+    public void testFieldForms() throws Exception {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("text", "2020-02-29");
+        toLoad.put("shaped", "13:45");
+        toLoad.put("map", CommonJavaSerializers.DATE_TIME.serialize(LocalDateTime.of(2020, 2, 29, 13, 45)));
+
+        //act
+        TestClass clazz = serializer.deserialize(toLoad);
+        Map<String, Object> map = serializer.serialize(clazz);
+
+        //assert
+        Assertions.assertEquals(LocalDate.of(2020, 2, 29), clazz.text);
+        Assertions.assertEquals(LocalTime.of(13, 45), clazz.shaped);
+        Assertions.assertEquals(LocalDateTime.of(2020, 2, 29, 13, 45), clazz.map);
+        Assertions.assertEquals("2020-02-29", map.get("text"));
+        Assertions.assertTrue(map.get("shaped") instanceof Map);
+        Assertions.assertTrue(map.get("map") instanceof Map);
+    }
+
+    public static class TestClass {
+
+        @ConfigField(serializer = IsoLocalDateSerializer.class)
+        private final LocalDate text;
+        private final LocalTime shaped;
+        private final LocalDateTime map;
+
+        @ConfigConstructor
+        public TestClass(LocalDate text, LocalTime shaped, LocalDateTime map) {
+            this.text = text;
+            this.shaped = shaped;
+            this.map = map;
+        }
+    }
+}
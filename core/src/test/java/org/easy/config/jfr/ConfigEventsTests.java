@@ -0,0 +1,92 @@
+package org.easy.config.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.*;
+
+public class ConfigEventsTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testDisabled() {
+        //act assert
+        Assertions.assertNull(ConfigEvents.beginDeserialize());
+        Assertions.assertNull(ConfigEvents.beginConstruct());
+        ConfigEvents.endDeserialize(null, TestClass.class, 0, null);
+    }
+
+    @Test
+    public void testRecorded() throws Exception {
+        Assumptions.assumeTrue(ConfigEvents.isAvailable());
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", "test");
+        map.put("inner", Collections.singletonMap("example", true));
+        Path file = this.directory.resolve("recording.jfr");
+        List<RecordedEvent> events;
+
+        //act
+        try (Recording recording = new Recording()) {
+            recording.enable("org.easy.config.Deserialize");
+            recording.enable("org.easy.config.Serialize");
+            recording.enable("org.easy.config.Construct");
+            recording.start();
+            AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+            serializer.serialize(serializer.deserialize(map));
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        //assert
+        RecordedEvent outer = find(events, "org.easy.config.Deserialize", TestClass.class);
+        RecordedEvent inner = find(events, "org.easy.config.Deserialize", InnerClass.class);
+        Assertions.assertEquals(2, outer.getInt("size"));
+        Assertions.assertEquals(0, outer.getInt("depth"));
+        Assertions.assertEquals(1, inner.getInt("depth"));
+        Assertions.assertNull(outer.getString("failure"));
+        Assertions.assertNotNull(find(events, "org.easy.config.Serialize", TestClass.class));
+        Assertions.assertNotNull(find(events, "org.easy.config.Construct", InnerClass.class));
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name, Class<?> type) {
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name) && event.getClass("type").getName().equals(type.getName())) {
+                return event;
+            }
+        }
+        throw new AssertionError("No " + name + " event of " + type.getSimpleName());
+    }
+
+    public static class InnerClass {
+
+        private final boolean example;
+
+        @ConfigConstructor
+        public InnerClass(boolean example) {
+            this.example = example;
+        }
+    }
+
+    public static class TestClass {
+
+        private final String name;
+        private final InnerClass inner;
+
+        @ConfigConstructor
+        public TestClass(String name, InnerClass inner) {
+            this.name = name;
+            this.inner = inner;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.easy.config.json;
+
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+
+public class JsonTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testParseNumbers() {
+        //act
+        List<?> values = (List<?>) Json.parse("[1, -2, 3000000000, 1.5, 2e3, 99999999999999999999]");
+
+        //assert
+        Assertions.assertEquals(1, values.get(0));
+        Assertions.assertEquals(-2, values.get(1));
+        Assertions.assertEquals(3000000000L, values.get(2));
+        Assertions.assertEquals(1.5, values.get(3));
+        Assertions.assertEquals(2000.0, values.get(4));
+        Assertions.assertEquals(new BigInteger("99999999999999999999"), values.get(5));
+    }
+
+    @Test
+    public void testParseStrings() {
+        //act
+        Map<?, ?> map = (Map<?, ?>) Json.parse("{\"plain\": \"text\", \"escaped\": \"a\\\"b\\n\\u00e9\", \"utf8\": \"café\", \"empty\": \"\"}");
+
+        //assert
+        Assertions.assertEquals("text", map.get("plain"));
+        Assertions.assertEquals("a\"b\né", map.get("escaped"));
+        Assertions.assertEquals("café", map.get("utf8"));
+        Assertions.assertEquals("", map.get("empty"));
+    }
+
+    @Test
+    public void testParseLiterals() {
+        //act
+        Map<?, ?> map = (Map<?, ?>) Json.parse("{\"yes\":true,\"no\":false,\"nothing\":null,\"list\":[],\"object\":{}}");
+
+        //assert
+        Assertions.assertEquals(true, map.get("yes"));
+        Assertions.assertEquals(false, map.get("no"));
+        Assertions.assertTrue(map.containsKey("nothing"));
+        Assertions.assertNull(map.get("nothing"));
+        Assertions.assertEquals(Collections.emptyList(), map.get("list"));
+        Assertions.assertEquals(Collections.emptyMap(), map.get("object"));
+    }
+
+    @Test
+    public void testInvalidParse() {
+        //act assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Json.parse("{\"key\" 1}"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Json.parse("[1, 2"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Json.parse("{} {}"));
+    }
+
+    @Test
+    public void testParseNumberLimits() {
+        //act
+        List<?> values = (List<?>) Json.parse("[-9223372036854775808, 9223372036854775807, 9223372036854775808, -2147483648, 0, -0, 0.5, 1e-2]");
+
+        //assert
+        Assertions.assertEquals(Long.MIN_VALUE, values.get(0));
+        Assertions.assertEquals(Long.MAX_VALUE, values.get(1));
+        Assertions.assertEquals(new BigInteger("9223372036854775808"), values.get(2));
+        Assertions.assertEquals(Integer.MIN_VALUE, values.get(3));
+        Assertions.assertEquals(0, values.get(4));
+        Assertions.assertEquals(0, values.get(5));
+        Assertions.assertEquals(0.5, values.get(6));
+        Assertions.assertEquals(0.01, values.get(7));
+    }
+
+    @Test
+    public void testInvalidNumbers() {
+        //act assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Json.parse("01"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Json.parse("-01"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Json.parse("1."));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Json.parse("[1.]"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Json.parse("1e"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Json.parse("1e+"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Json.parse("1.e5"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Json.parse("-"));
+    }
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        Map<String, Object> toWrite = new LinkedHashMap<>();
+        toWrite.put("name", "quote \" and \\ slash");
+        toWrite.put("count", 3);
+        toWrite.put("ratio", 0.5);
+        toWrite.put("list", Arrays.asList(1, 2, 3));
+        toWrite.put("nothing", null);
+        Path path = this.directory.resolve("config.json");
+
+        //act
+        Json.write(path, toWrite);
+        Map<String, Object> read = Json.read(path);
+
+        //assert
+        Assertions.assertEquals(toWrite, read);
+        Assertions.assertEquals(new ArrayList<>(toWrite.keySet()), new ArrayList<>(read.keySet()));
+    }
+
+    @Test
+    public void testLoad() throws Exception {
+        Path path = this.directory.resolve("config.json");
+        Json.write(path, Json.parse("{\"name\": \"test\", \"date\": {\"year\": 2020, \"month\": 2, \"day-of-month\": 29}, \"items\": [{\"value\": 1}, {\"value\": 2}]}"));
+
+        //act
+        TestClass clazz = Json.load(path, TestClass.class);
+
+        //assert
+        Assertions.assertEquals("test", clazz.name);
+        Assertions.assertEquals(LocalDate.of(2020, 2, 29), clazz.date);
+        Assertions.assertEquals(2, clazz.items.size());
+        Assertions.assertEquals(2, clazz.items.get(1).value);
+    }
+
+    @Test
+    public void testReadMapped() throws Exception {
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            values.add(i);
+        }
+        Map<String, Object> toWrite = Collections.singletonMap("values", values);
+        Path path = this.directory.resolve("large.json");
+        Json.write(path, toWrite);
+
+        //act
+        Map<String, Object> read = Json.read(path);
+
+        //assert
+        Assertions.assertTrue(path.toFile().length() >= JsonReader.MAP_THRESHOLD);
+        Assertions.assertEquals(toWrite, read);
+    }
+
+    public static class Item {
+
+        private final int value;
+
+        @ConfigConstructor
+        public Item(int value) {
+            this.value = value;
+        }
+    }
+
+    public static class TestClass {
+
+        private final String name;
+        private final LocalDate date;
+        @ConfigList(ofType = Item.class)
+        private final List<Item> items;
+
+        @ConfigConstructor
+        public TestClass(String name, LocalDate date, List<Item> items) {
+            this.name = name;
+            this.date = date;
+            this.items = items;
+        }
+    }
+}
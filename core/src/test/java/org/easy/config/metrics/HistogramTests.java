@@ -0,0 +1,45 @@
+package org.easy.config.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HistogramTests {
+
+    @Test
+    public void testPercentiles() {
+        Histogram histogram = new Histogram();
+
+        //act
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        //assert
+        Assertions.assertEquals(1000, histogram.count());
+        Assertions.assertEquals(1_000_000, histogram.max());
+        Assertions.assertEquals(500_500, histogram.mean(), 0.001);
+        Assertions.assertEquals(500_000, histogram.percentile(50), 500_000 / 16.0);
+        Assertions.assertEquals(990_000, histogram.percentile(99), 990_000 / 16.0);
+        Assertions.assertEquals(1_000_000, histogram.percentile(100));
+    }
+
+    @Test
+    public void testBuckets() {
+        //act assert
+        for (long value : new long[]{0, 1, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int index = Histogram.indexOf(value);
+            Assertions.assertTrue(Histogram.highestOf(index) >= value);
+            Assertions.assertTrue(index == 0 || Histogram.highestOf(index - 1) < value);
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        Histogram histogram = new Histogram();
+
+        //act assert
+        Assertions.assertEquals(0, histogram.percentile(99));
+        Assertions.assertEquals(0, histogram.mean());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101));
+    }
+}
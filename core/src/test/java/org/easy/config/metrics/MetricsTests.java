@@ -0,0 +1,89 @@
+package org.easy.config.metrics;
+
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+public class MetricsTests {
+
+    @Test
+    public void testDeserializeMetrics() throws Exception {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        AutoSerializer<TestClass> serializer = new AutoSerializer<TestClass>(TestClass.class).withMetrics(metrics);
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", "test");
+        map.put("date", LocalDate.of(2020, 2, 29).toString());
+        map.put("items", Arrays.asList(Collections.singletonMap("value", 1), Collections.singletonMap("value", 2)));
+
+        //act
+        serializer.deserialize(map);
+        serializer.deserialize(map);
+
+        //assert
+        Assertions.assertEquals(2, metrics.deserializeLatencies().get(TestClass.class).count());
+        Assertions.assertEquals(4, metrics.deserializeLatencies().get(Item.class).count());
+        Assertions.assertEquals(2, metrics.deserializeLatencies().get(LocalDate.class).count());
+        Assertions.assertEquals(2, metrics.fieldDeserializeLatencies(TestClass.class).get("items").count());
+        Assertions.assertEquals(2, metrics.reflectiveConstructions(TestClass.class) + metrics.generatedConstructions(TestClass.class));
+        Assertions.assertTrue(metrics.serializerLookups() > 0);
+        Assertions.assertTrue(metrics.serializerCacheHits() > 0);
+        Assertions.assertEquals(0, metrics.errors(TestClass.class));
+    }
+
+    @Test
+    public void testSerializeMetrics() throws Exception {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        AutoSerializer<TestClass> serializer = new AutoSerializer<TestClass>(TestClass.class).withMetrics(metrics);
+
+        //act
+        serializer.serialize(new TestClass("test", LocalDate.of(2020, 2, 29), Collections.singletonList(new Item(1))));
+
+        //assert
+        Assertions.assertEquals(1, metrics.serializeLatencies().get(TestClass.class).count());
+        Assertions.assertEquals(1, metrics.serializeLatencies().get(Item.class).count());
+        Assertions.assertEquals(1, metrics.fieldSerializeLatencies(TestClass.class).get("date").count());
+    }
+
+    @Test
+    public void testErrorMetrics() {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        AutoSerializer<TestClass> serializer = new AutoSerializer<TestClass>(TestClass.class).withMetrics(metrics);
+
+        //act
+        Assertions.assertThrows(IllegalArgumentException.class, () -> serializer.deserialize(Collections.singletonMap("name", "test")));
+
+        //assert
+        Assertions.assertEquals(1, metrics.errors(TestClass.class));
+        Assertions.assertNull(metrics.deserializeLatencies().get(TestClass.class));
+    }
+
+    public static class Item {
+
+        private final int value;
+
+        @ConfigConstructor
+        public Item(int value) {
+            this.value = value;
+        }
+    }
+
+    public static class TestClass {
+
+        private final String name;
+        private final LocalDate date;
+        @ConfigList(ofType = Item.class)
+        private final List<Item> items;
+
+        @ConfigConstructor
+        public TestClass(String name, LocalDate date, List<Item> items) {
+            this.name = name;
+            this.date = date;
+            this.items = items;
+        }
+    }
+}
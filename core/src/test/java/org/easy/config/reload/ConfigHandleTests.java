@@ -0,0 +1,129 @@
+package org.easy.config.reload;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class ConfigHandleTests {
+
+    @Test
+    public void testPublish() {
+        ConfigHandle<String> handle = new ConfigHandle<>("first");
+
+        //act
+        long version = handle.publish("second");
+        ConfigHandle.Snapshot<String> snapshot = handle.snapshot();
+
+        //assert
+        Assertions.assertEquals(2, version);
+        Assertions.assertEquals("second", handle.get());
+        Assertions.assertEquals("second", snapshot.value());
+        Assertions.assertEquals(2, snapshot.version());
+    }
+
+    @Test
+    public void testListenerRunsOnExecutor() throws Exception {
+        ConfigHandle<String> handle = new ConfigHandle<>("first");
+        BlockingQueue<Thread> threads = new ArrayBlockingQueue<>(1);
+        handle.addListener(value -> threads.add(Thread.currentThread()));
+
+        //act
+        handle.publish("second");
+        Thread thread = threads.poll(10, TimeUnit.SECONDS);
+
+        //assert
+        Assertions.assertNotNull(thread);
+        Assertions.assertNotSame(Thread.currentThread(), thread);
+    }
+
+    @Test
+    public void testBusyListenerGetsLatest() throws Exception {
+        ConfigHandle<Integer> handle = new ConfigHandle<>(0);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> received = new ArrayList<>();
+        BlockingQueue<Integer> done = new ArrayBlockingQueue<>(10);
+        handle.addListener(value -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            received.add(value);
+            done.add(value);
+        });
+
+        //act
+        handle.publish(1);
+        Assertions.assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        handle.publish(2);
+        handle.publish(3);
+        release.countDown();
+        done.poll(10, TimeUnit.SECONDS);
+        done.poll(10, TimeUnit.SECONDS);
+
+        //assert
+        Assertions.assertEquals(List.of(1, 3), received);
+        Assertions.assertNull(done.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testRemoveListener() {
+        ConfigHandle<String> handle = new ConfigHandle<>("first");
+        List<String> received = new ArrayList<>();
+        Consumer<String> listener = received::add;
+        handle.addListener(listener, Runnable::run);
+
+        //act
+        handle.publish("second");
+        boolean removed = handle.removeListener(listener);
+        handle.publish("third");
+
+        //assert
+        Assertions.assertTrue(removed);
+        Assertions.assertEquals(List.of("second"), received);
+    }
+
+    @Test
+    public void testRejectedListener() {
+        ConfigHandle<String> handle = new ConfigHandle<>("first");
+        List<String> rejectedReceived = new ArrayList<>();
+        List<String> received = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        boolean[] reject = {true};
+        handle.addListener(rejectedReceived::add, command -> {
+            if (reject[0]) {
+                throw new RejectedExecutionException("shutting down");
+            }
+            command.run();
+        });
+        handle.addListener(received::add, Runnable::run);
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((t, e) -> errors.add(e));
+
+        //act
+        try {
+            handle.publish("second");
+            reject[0] = false;
+            handle.publish("third");
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+
+        //assert
+        Assertions.assertEquals(List.of("third"), rejectedReceived);
+        Assertions.assertEquals(List.of("second", "third"), received);
+        Assertions.assertEquals(1, errors.size());
+        Assertions.assertTrue(errors.get(0) instanceof RejectedExecutionException);
+    }
+}
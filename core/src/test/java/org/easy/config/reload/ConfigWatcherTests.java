@@ -0,0 +1,127 @@
+package org.easy.config.reload;
+
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigList;
+import org.easy.config.json.Json;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class ConfigWatcherTests {
+
+    private static final String CONFIG = "{\"name\": \"%s\", \"inner\": {\"value\": 1}, \"items\": [{\"value\": 2}, {\"value\": %d}]}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testUnchangedContent() throws Exception {
+        Path path = write("first", 3);
+        ConfigWatcher<TestClass> watcher = new ConfigWatcher<>(path, new AutoSerializer<>(TestClass.class));
+
+        //act
+        boolean first = watcher.reload();
+        TestClass loaded = watcher.current();
+        write("first", 3);
+        boolean second = watcher.reload();
+
+        //assert
+        Assertions.assertTrue(first);
+        Assertions.assertFalse(second);
+        Assertions.assertSame(loaded, watcher.current());
+    }
+
+    @Test
+    public void testReusesUnchangedObjects() throws Exception {
+        Path path = write("first", 3);
+        ConfigWatcher<TestClass> watcher = new ConfigWatcher<>(path, new AutoSerializer<>(TestClass.class));
+        watcher.reload();
+        TestClass previous = watcher.current();
+
+        //act
+        write("second", 4);
+        watcher.reload();
+        TestClass clazz = watcher.current();
+
+        //assert
+        Assertions.assertEquals("second", clazz.name);
+        Assertions.assertSame(previous.inner, clazz.inner);
+        Assertions.assertSame(previous.items.get(0), clazz.items.get(0));
+        Assertions.assertNotSame(previous.items.get(1), clazz.items.get(1));
+        Assertions.assertEquals(4, clazz.items.get(1).value);
+    }
+
+    @Test
+    public void testWatchesFile() throws Exception {
+        Path path = write("first", 3);
+        BlockingQueue<TestClass> changes = new ArrayBlockingQueue<>(10);
+        try (ConfigWatcher<TestClass> watcher = new ConfigWatcher<>(path, new AutoSerializer<>(TestClass.class), Duration.ofMillis(50))) {
+            watcher.start();
+            watcher.onChange(changes::add);
+
+            //act
+            write("second", 3);
+            TestClass clazz = changes.poll(10, TimeUnit.SECONDS);
+
+            //assert
+            Assertions.assertNotNull(clazz);
+            Assertions.assertEquals("second", clazz.name);
+        }
+    }
+
+    @Test
+    public void testInvalidContentKeepsPrevious() throws Exception {
+        Path path = write("first", 3);
+        ConfigWatcher<TestClass> watcher = new ConfigWatcher<>(path, new AutoSerializer<>(TestClass.class));
+        watcher.reload();
+        TestClass previous = watcher.current();
+
+        //act
+        Files.write(path, "{\"name\": ".getBytes(StandardCharsets.UTF_8));
+
+        //assert
+        Assertions.assertThrows(IllegalArgumentException.class, watcher::reload);
+        Assertions.assertSame(previous, watcher.current());
+    }
+
+    private Path write(String name, int value) throws Exception {
+        Path path = this.directory.resolve("config.json");
+        Json.write(path, Json.parse(String.format(CONFIG, name, value)));
+        return path;
+    }
+
+    public static class InnerClass {
+
+        private final int value;
+
+        @ConfigConstructor
+        public InnerClass(int value) {
+            this.value = value;
+        }
+    }
+
+    public static class TestClass {
+
+        private final String name;
+        private final InnerClass inner;
+        @ConfigList(ofType = InnerClass.class)
+        private final List<InnerClass> items;
+
+        @ConfigConstructor
+        public TestClass(String name, InnerClass inner, List<InnerClass> items) {
+            this.name = name;
+            this.inner = inner;
+            this.items = items;
+        }
+    }
+}
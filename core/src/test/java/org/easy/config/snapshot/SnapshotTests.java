@@ -0,0 +1,136 @@
+package org.easy.config.snapshot;
+
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigList;
+import org.easy.config.json.Json;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+public class SnapshotTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("name", "shared");
+        inner.put("nothing", null);
+        Map<String, Object> toWrite = new LinkedHashMap<>();
+        toWrite.put("int", -5);
+        toWrite.put("long", Long.MIN_VALUE);
+        toWrite.put("double", 0.25);
+        toWrite.put("float", 1.5f);
+        toWrite.put("big", new BigInteger("-99999999999999999999"));
+        toWrite.put("decimal", new BigDecimal("12.3400"));
+        toWrite.put("flag", true);
+        toWrite.put("text", "café");
+        toWrite.put("list", Arrays.asList(inner, inner, Collections.emptyList()));
+        toWrite.put("empty", Collections.emptyMap());
+
+        //act
+        byte[] bytes = SnapshotWriter.toBytes(toWrite, new byte[32]);
+        Object read = new SnapshotReader(ByteBuffer.wrap(bytes)).readValue();
+
+        //assert
+        Assertions.assertEquals(toWrite, read);
+        Assertions.assertEquals(new ArrayList<>(toWrite.keySet()), new ArrayList<>(((Map<?, ?>) read).keySet()));
+    }
+
+    @Test
+    public void testInvalidSnapshot() {
+        byte[] bytes = SnapshotWriter.toBytes(Collections.singletonMap("key", "value"), new byte[32]);
+
+        //act assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SnapshotReader(ByteBuffer.wrap(new byte[40])));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SnapshotReader(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 1))).readValue());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SnapshotWriter.toBytes(new Object(), new byte[32]));
+    }
+
+    @Test
+    public void testReadCached() throws Exception {
+        Path source = this.directory.resolve("config.json");
+        Path snapshot = this.directory.resolve("config.snapshot");
+        Files.write(source, "{\"name\": \"first\"}".getBytes());
+
+        //act
+        Map<String, Object> first = Snapshot.read(source, snapshot);
+        Map<String, Object> cached = Snapshot.read(source, snapshot);
+        Files.write(source, "{\"name\": \"second\"}".getBytes());
+        Map<String, Object> changed = Snapshot.read(source, snapshot);
+
+        //assert
+        Assertions.assertEquals("first", first.get("name"));
+        Assertions.assertEquals("first", cached.get("name"));
+        Assertions.assertEquals("second", changed.get("name"));
+        Assertions.assertArrayEquals(Snapshot.digest(source), SnapshotReader.open(snapshot).digest());
+    }
+
+    @Test
+    public void testLoad() throws Exception {
+        Path source = this.directory.resolve("config.json");
+        Path snapshot = this.directory.resolve("config.snapshot");
+        Json.write(source, Json.parse("{\"name\": \"test\", \"items\": [{\"value\": 1}, {\"value\": 2}]}"));
+
+        //act
+        TestClass parsed = Snapshot.load(source, snapshot, new AutoSerializer<>(TestClass.class));
+        TestClass cached = Snapshot.load(source, snapshot, new AutoSerializer<>(TestClass.class));
+
+        //assert
+        Assertions.assertTrue(Files.exists(snapshot));
+        Assertions.assertEquals("test", parsed.name);
+        Assertions.assertEquals("test", cached.name);
+        Assertions.assertEquals(2, cached.items.get(1).value);
+    }
+
+    @Test
+    public void testCorruptSnapshot() throws Exception {
+        Path source = this.directory.resolve("config.json");
+        Path snapshot = this.directory.resolve("config.snapshot");
+        Json.write(source, Json.parse("{\"name\": \"test\", \"items\": [{\"value\": 1}, {\"value\": 2}]}"));
+        byte[] bytes = SnapshotWriter.toBytes(Json.read(source), Snapshot.digest(source));
+        Files.write(snapshot, Arrays.copyOf(bytes, SnapshotFormat.HEADER_LENGTH + 3));
+
+        //act
+        Map<String, Object> read = Snapshot.read(source, snapshot);
+        Files.write(snapshot, Arrays.copyOf(bytes, SnapshotFormat.HEADER_LENGTH + 3));
+        TestClass loaded = Snapshot.load(source, snapshot, new AutoSerializer<>(TestClass.class));
+
+        //assert
+        Assertions.assertEquals("test", read.get("name"));
+        Assertions.assertEquals(2, loaded.items.get(1).value);
+        Assertions.assertEquals(read, new SnapshotReader(ByteBuffer.wrap(Files.readAllBytes(snapshot))).readValue());
+    }
+
+    public static class Item {
+
+        private final int value;
+
+        @ConfigConstructor
+        public Item(int value) {
+            this.value = value;
+        }
+    }
+
+    public static class TestClass {
+
+        private final String name;
+        @ConfigList(ofType = Item.class)
+        private final List<Item> items;
+
+        @ConfigConstructor
+        public TestClass(String name, List<Item> items) {
+            this.name = name;
+            this.items = items;
+        }
+    }
+}
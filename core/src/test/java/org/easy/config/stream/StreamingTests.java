@@ -0,0 +1,99 @@
+package org.easy.config.stream;
+
+import org.easy.config.Serializer;
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigList;
+import org.easy.config.common.CommonJavaSerializers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+public class StreamingTests {
+
+    @Test
+    public void testMapTokens() throws Exception {
+        Map<String, Object> toRead = new LinkedHashMap<>();
+        toRead.put("value", 1);
+        toRead.put("list", Collections.singletonList(true));
+        MapTokenReader reader = new MapTokenReader(toRead);
+
+        //act
+        List<Token> tokens = new ArrayList<>();
+        Token token;
+        while ((token = reader.next()) != Token.END_DOCUMENT) {
+            tokens.add(token);
+        }
+
+        //assert
+        Assertions.assertEquals(Arrays.asList(Token.BEGIN_OBJECT, Token.KEY, Token.SCALAR, Token.KEY, Token.BEGIN_ARRAY, Token.SCALAR, Token.END_ARRAY, Token.END_OBJECT), tokens);
+    }
+
+    @Test
+    public void testReadNested() throws Exception {
+        Map<String, Object> inner = new HashMap<>();
+        inner.put("example", true);
+        Map<String, Object> toRead = new HashMap<>();
+        toRead.put("name", "test");
+        toRead.put("inner", inner);
+        toRead.put("list", Arrays.asList(inner, inner));
+        toRead.put("unknown", Collections.singletonMap("skipped", 1));
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+
+        //act
+        TestClass clazz = serializer.read(new MapTokenReader(toRead));
+
+        //assert
+        Assertions.assertEquals("test", clazz.name);
+        Assertions.assertTrue(clazz.inner.example);
+        Assertions.assertEquals(2, clazz.list.size());
+        Assertions.assertTrue(clazz.list.get(1).example);
+    }
+
+    @Test
+    public void testReadNull() {
+        AutoSerializer<TestClass> serializer = new AutoSerializer<>(TestClass.class);
+
+        //act assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> serializer.read(new MapTokenReader(null)));
+    }
+
+    @Test
+    public void testAdaptedSerializer() throws Exception {
+        Serializer.Streaming<LocalDate> serializer = Serializer.Streaming.of(CommonJavaSerializers.DATE);
+        Map<String, Object> toRead = CommonJavaSerializers.DATE.serialize(LocalDate.of(2020, 2, 29));
+
+        //act
+        LocalDate date = serializer.read(new MapTokenReader(toRead));
+
+        //assert
+        Assertions.assertEquals(LocalDate.of(2020, 2, 29), date);
+    }
+
+    public static class InnerClass {
+
+        private final boolean example;
+
+        @ConfigConstructor
+        public InnerClass(boolean example) {
+            this.example = example;
+        }
+    }
+
+    public static class TestClass {
+
+        private final String name;
+        private final InnerClass inner;
+        @ConfigList(ofType = InnerClass.class)
+        private final List<InnerClass> list;
+
+        @ConfigConstructor
+        public TestClass(String name, InnerClass inner, List<InnerClass> list) {
+            this.name = name;
+            this.inner = inner;
+            this.list = list;
+        }
+    }
+}
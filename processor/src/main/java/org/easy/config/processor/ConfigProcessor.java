@@ -0,0 +1,379 @@
+package org.easy.config.processor;
+
+import org.easy.config.auto.GeneratedSerializer;
+import org.easy.config.auto.annotations.ConfigConstructor;
+import org.easy.config.auto.annotations.ConfigField;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.element.ModuleElement.RequiresDirective;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Writes a {@link GeneratedSerializer} for every class with a {@link ConfigConstructor}. Fields and constructors that
+ * generated code in the same package cannot reach, such as private ones, are accessed through method handles of a
+ * private lookup created by the generated class itself, which needs no {@code setAccessible} and is allowed within a
+ * module. Classes that cannot be named from the generated code are skipped with a note, and keep using reflection
+ * at runtime
+ */
+@SupportedAnnotationTypes("org.easy.config.auto.annotations.ConfigConstructor")
+public class ConfigProcessor extends AbstractProcessor {
+
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+    private static final String GENERATED_MODULE = "java.compiler";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(ConfigConstructor.class)) {
+            if (element.getKind() != ElementKind.CONSTRUCTOR) {
+                continue;
+            }
+            ExecutableElement constructor = (ExecutableElement) element;
+            TypeElement type = (TypeElement) constructor.getEnclosingElement();
+            try {
+                this.generate(type, constructor);
+            } catch (IOException e) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write serializer: " + e.getMessage(), type);
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type, ExecutableElement constructor) throws IOException {
+        Messager messager = this.processingEnv.getMessager();
+        Optional<String> problem = this.findProblem(type, constructor);
+        if (problem.isPresent()) {
+            messager.printMessage(Diagnostic.Kind.NOTE, "No serializer generated, " + type.getSimpleName() + " uses reflection: " + problem.get(), type);
+            return;
+        }
+        List<FieldInfo> fields = this.fields(type);
+        if (fields.size() != constructor.getParameters().size()) {
+            messager.printMessage(Diagnostic.Kind.NOTE, "No serializer generated, " + type.getSimpleName() + " has " + fields.size() + " fields but its constructor takes " + constructor.getParameters().size(), type);
+            return;
+        }
+        PackageElement packageElement = this.processingEnv.getElementUtils().getPackageOf(type);
+        boolean privateConstructor = constructor.getModifiers().contains(Modifier.PRIVATE);
+        Set<String> names = new HashSet<>();
+        for (FieldInfo field : fields) {
+            if (!field.accessible && (!this.isNameable(field.field.getEnclosingElement(), packageElement) || !this.isNameable(field.field.asType(), packageElement))) {
+                messager.printMessage(Diagnostic.Kind.NOTE, "No serializer generated, " + type.getSimpleName() + " cannot read field " + field.field.getSimpleName(), type);
+                return;
+            }
+            if (!this.isNameable(field.field.asType(), packageElement)) {
+                messager.printMessage(Diagnostic.Kind.NOTE, "No serializer generated, " + type.getSimpleName() + " cannot name the type of field " + field.field.getSimpleName(), type);
+                return;
+            }
+            if (!names.add(field.name)) {
+                messager.printMessage(Diagnostic.Kind.NOTE, "No serializer generated, " + type.getSimpleName() + " uses the name '" + field.name + "' twice", type);
+                return;
+            }
+        }
+        this.write(type, constructor, privateConstructor, fields);
+    }
+
+    private Optional<String> findProblem(TypeElement type, ExecutableElement constructor) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return Optional.of("class is abstract");
+        }
+        Element target = type;
+        while (target instanceof TypeElement) {
+            if (target.getModifiers().contains(Modifier.PRIVATE)) {
+                return Optional.of("class is private");
+            }
+            NestingKind nesting = ((TypeElement) target).getNestingKind();
+            if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) {
+                return Optional.of("class is local");
+            }
+            if (nesting == NestingKind.MEMBER && !target.getModifiers().contains(Modifier.STATIC)) {
+                return Optional.of("class is an inner class");
+            }
+            target = target.getEnclosingElement();
+        }
+        return Optional.empty();
+    }
+
+    private List<FieldInfo> fields(TypeElement type) {
+        Elements elements = this.processingEnv.getElementUtils();
+        PackageElement packageElement = elements.getPackageOf(type);
+        List<FieldInfo> fields = new ArrayList<>();
+        TypeElement target = type;
+        while (target != null) {
+            for (Element element : target.getEnclosedElements()) {
+                if (element.getKind() != ElementKind.FIELD || element.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                VariableElement field = (VariableElement) element;
+                Map<String, Object> configField = this.configField(field);
+                if (Boolean.TRUE.equals(configField.get("exclude"))) {
+                    continue;
+                }
+                String name = (String) configField.getOrDefault("name", "");
+                if (name.isEmpty()) {
+                    name = field.getSimpleName().toString();
+                }
+                boolean samePackage = elements.getPackageOf(target).equals(packageElement);
+                boolean accessible = samePackage ? !field.getModifiers().contains(Modifier.PRIVATE) : field.getModifiers().contains(Modifier.PUBLIC);
+                fields.add(new FieldInfo(field, name, accessible));
+            }
+            TypeMirror superType = target.getSuperclass();
+            if (superType.getKind() != TypeKind.DECLARED) {
+                break;
+            }
+            target = (TypeElement) ((DeclaredType) superType).asElement();
+        }
+        return fields;
+    }
+
+    /**
+     * Checks that generated code in the package can refer to the type by name, such as in a class literal
+     */
+    private boolean isNameable(TypeMirror type, PackageElement packageElement) {
+        TypeMirror erased = this.processingEnv.getTypeUtils().erasure(type);
+        while (erased.getKind() == TypeKind.ARRAY) {
+            erased = ((javax.lang.model.type.ArrayType) erased).getComponentType();
+        }
+        if (erased.getKind() != TypeKind.DECLARED) {
+            return erased.getKind().isPrimitive();
+        }
+        return this.isNameable(((DeclaredType) erased).asElement(), packageElement);
+    }
+
+    private boolean isNameable(Element element, PackageElement packageElement) {
+        Elements elements = this.processingEnv.getElementUtils();
+        for (Element target = element; target instanceof TypeElement; target = target.getEnclosingElement()) {
+            Set<Modifier> modifiers = target.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(target).equals(packageElement)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<String, Object> configField(VariableElement field) {
+        Map<String, Object> values = new HashMap<>();
+        String annotationName = ConfigField.class.getCanonicalName();
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                continue;
+            }
+            this.processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).forEach((key, value) -> values.put(key.getSimpleName().toString(), value.getValue()));
+        }
+        return values;
+    }
+
+    private void write(TypeElement type, ExecutableElement constructor, boolean privateConstructor, List<FieldInfo> fields) throws IOException {
+        Elements elements = this.processingEnv.getElementUtils();
+        Types types = this.processingEnv.getTypeUtils();
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String generatedName = binaryName.replace('$', '_') + GeneratedSerializer.SUFFIX;
+        String simpleName = generatedName.substring(generatedName.lastIndexOf('.') + 1);
+        String typeName = type.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        if (this.canAnnotateGenerated(type)) {
+            source.append("@").append(GENERATED).append("(\"").append(ConfigProcessor.class.getName()).append("\")\n");
+        }
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        source.append("public final class ").append(simpleName).append(" extends ").append(GeneratedSerializer.class.getName()).append("<").append(typeName).append("> {\n\n");
+
+        boolean constants = privateConstructor;
+        for (int i = 0; i < fields.size(); i++) {
+            FieldInfo field = fields.get(i);
+            if (field.accessible) {
+                continue;
+            }
+            String owner = ((TypeElement) field.field.getEnclosingElement()).getQualifiedName().toString();
+            source.append("    private static final java.lang.invoke.MethodHandle FIELD_").append(i).append(" = getter(java.lang.invoke.MethodHandles.lookup(), ")
+                    .append(owner).append(".class, ").append(literal(field.field.getSimpleName().toString())).append(", ")
+                    .append(types.erasure(field.field.asType())).append(".class);\n");
+            constants = true;
+        }
+        List<? extends VariableElement> parameters = constructor.getParameters();
+        if (privateConstructor) {
+            source.append("    private static final java.lang.invoke.MethodHandle CONSTRUCTOR = constructor(java.lang.invoke.MethodHandles.lookup(), ").append(typeName).append(".class");
+            for (VariableElement parameter : parameters) {
+                source.append(", ").append(types.erasure(parameter.asType())).append(".class");
+            }
+            source.append(");\n");
+        }
+        if (constants) {
+            source.append("\n");
+        }
+
+        source.append("    public ").append(simpleName).append("() {\n");
+        source.append("        super(").append(typeName).append(".class, new String[]{");
+        for (int i = 0; i < fields.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(literal(fields.get(i).field.getSimpleName().toString()));
+        }
+        source.append("}, new Class<?>[]{");
+        for (int i = 0; i < fields.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(types.erasure(fields.get(i).field.asType())).append(".class");
+        }
+        source.append("});\n    }\n\n");
+
+        source.append("    @Override\n    protected int slotOf(String key) {\n        switch (key) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            source.append("            case ").append(literal(fields.get(i).name)).append(":\n                return ").append(i).append(";\n");
+        }
+        source.append("            default:\n                return -1;\n        }\n    }\n\n");
+
+        boolean fieldHandles = fields.stream().anyMatch(field -> !field.accessible);
+        String indent = fieldHandles ? "            " : "        ";
+        source.append("    @Override\n    protected void read(").append(typeName).append(" value, Object[] values) {\n");
+        if (fieldHandles) {
+            source.append("        try {\n");
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            source.append(indent).append("values[").append(i).append("] = ");
+            if (fields.get(i).accessible) {
+                source.append("value.").append(fields.get(i).field.getSimpleName());
+            } else {
+                source.append("(Object) FIELD_").append(i).append(".invokeExact((Object) value)");
+            }
+            source.append(";\n");
+        }
+        if (fieldHandles) {
+            source.append("        } catch (Throwable e) {\n            throw rethrow(e);\n        }\n");
+        }
+        source.append("    }\n\n");
+
+        source.append("    @Override\n    protected ").append(typeName).append(" create(Object[] values) {\n");
+        if (privateConstructor) {
+            source.append("        try {\n            return (").append(typeName).append(") CONSTRUCTOR.invoke(");
+        } else {
+            source.append("        return new ").append(typeName).append("(");
+        }
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i != 0) {
+                source.append(", ");
+            }
+            source.append(argument(types, parameters.get(i).asType(), i));
+        }
+        if (privateConstructor) {
+            source.append(");\n        } catch (Throwable e) {\n            throw rethrow(e);\n        }\n    }\n}\n");
+        } else {
+            source.append(");\n    }\n}\n");
+        }
+
+        JavaFileObject file = this.processingEnv.getFiler().createSourceFile(generatedName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * Checks that the generated class can use {@code @Generated}, which is missing when compiling for Java 8 and lives
+     * in the {@code java.compiler} module that a named module may not read
+     */
+    private boolean canAnnotateGenerated(TypeElement type) {
+        Elements elements = this.processingEnv.getElementUtils();
+        if (elements.getTypeElement(GENERATED) == null) {
+            return false;
+        }
+        ModuleElement module = elements.getModuleOf(type);
+        return module == null || module.isUnnamed() || reads(module, GENERATED_MODULE, new HashSet<>());
+    }
+
+    private static boolean reads(ModuleElement module, String name, Set<ModuleElement> visited) {
+        for (RequiresDirective requires : ElementFilter.requiresIn(module.getDirectives())) {
+            ModuleElement dependency = requires.getDependency();
+            if (dependency.getQualifiedName().contentEquals(name) || grants(dependency, name, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks that a module passes on readability of another module through {@code requires transitive}
+     */
+    private static boolean grants(ModuleElement module, String name, Set<ModuleElement> visited) {
+        if (!visited.add(module)) {
+            return false;
+        }
+        for (RequiresDirective requires : ElementFilter.requiresIn(module.getDirectives())) {
+            if (!requires.isTransitive()) {
+                continue;
+            }
+            ModuleElement dependency = requires.getDependency();
+            if (dependency.getQualifiedName().contentEquals(name) || grants(dependency, name, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String argument(Types types, TypeMirror type, int index) {
+        String value = "values[" + index + "]";
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "asBoolean(" + value + ")";
+            case CHAR:
+                return "asChar(" + value + ")";
+            case BYTE:
+                return "asByte(" + value + ")";
+            case SHORT:
+                return "asShort(" + value + ")";
+            case INT:
+                return "asInt(" + value + ")";
+            case LONG:
+                return "asLong(" + value + ")";
+            case FLOAT:
+                return "asFloat(" + value + ")";
+            case DOUBLE:
+                return "asDouble(" + value + ")";
+            default:
+                return "cast(" + types.erasure(type) + ".class, " + value + ")";
+        }
+    }
+
+    private static String literal(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (char character : value.toCharArray()) {
+            if (character == '"' || character == '\\') {
+                builder.append('\\');
+            }
+            builder.append(character);
+        }
+        return builder.append('"').toString();
+    }
+
+    private static final class FieldInfo {
+
+        private final VariableElement field;
+        private final String name;
+        private final boolean accessible;
+
+        private FieldInfo(VariableElement field, String name, boolean accessible) {
+            this.field = field;
+            this.name = name;
+            this.accessible = accessible;
+        }
+    }
+}
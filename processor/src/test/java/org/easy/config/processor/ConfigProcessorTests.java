@@ -0,0 +1,227 @@
+package org.easy.config.processor;
+
+import org.easy.config.Serializer;
+import org.easy.config.auto.AutoSerializer;
+import org.easy.config.auto.GeneratedSerializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ConfigProcessorTests {
+
+    private static final String CONFIG = "package example;\n" +
+            "import org.easy.config.auto.annotations.*;\n" +
+            "public class Config {\n" +
+            "    final long port;\n" +
+            "    @ConfigField(name = \"host-name\")\n" +
+            "    final String host;\n" +
+            "    @ConfigField(exclude = true)\n" +
+            "    final boolean ignored;\n" +
+            "    @ConfigConstructor\n" +
+            "    Config(long port, String host) {\n" +
+            "        this.port = port;\n" +
+            "        this.host = host;\n" +
+            "        this.ignored = false;\n" +
+            "    }\n" +
+            "}\n";
+
+    private static final String PRIVATE_CONFIG = "package example;\n" +
+            "import org.easy.config.auto.annotations.*;\n" +
+            "public class PrivateConfig {\n" +
+            "    private final int port;\n" +
+            "    private final java.util.List<String> hosts;\n" +
+            "    @ConfigConstructor\n" +
+            "    private PrivateConfig(int port, java.util.List<String> hosts) {\n" +
+            "        this.port = port;\n" +
+            "        this.hosts = hosts;\n" +
+            "    }\n" +
+            "    private static class Hidden {\n" +
+            "        private final int value;\n" +
+            "        @ConfigConstructor\n" +
+            "        Hidden(int value) {\n" +
+            "            this.value = value;\n" +
+            "        }\n" +
+            "    }\n" +
+            "}\n";
+
+    private static final String STALE_CONFIG = "package example;\n" +
+            "import org.easy.config.auto.annotations.*;\n" +
+            "public class StaleConfig {\n" +
+            "    final long port;\n" +
+            "    @ConfigConstructor\n" +
+            "    StaleConfig(long port) {\n" +
+            "        this.port = port;\n" +
+            "    }\n" +
+            "}\n";
+
+    private static final String STALE_SERIALIZER = "package example;\n" +
+            "public final class StaleConfig_ConfigSerializer extends org.easy.config.auto.GeneratedSerializer<StaleConfig> {\n" +
+            "    public StaleConfig_ConfigSerializer() {\n" +
+            "        super(StaleConfig.class, new String[]{\"port\"}, new Class<?>[]{int.class});\n" +
+            "    }\n" +
+            "    protected int slotOf(String key) {\n" +
+            "        return key.equals(\"port\") ? 0 : -1;\n" +
+            "    }\n" +
+            "    protected void read(StaleConfig value, Object[] values) {\n" +
+            "        throw new UnsupportedOperationException();\n" +
+            "    }\n" +
+            "    protected StaleConfig create(Object[] values) {\n" +
+            "        throw new UnsupportedOperationException();\n" +
+            "    }\n" +
+            "}\n";
+
+    private static final String MODULE_INFO = "module example {\n" +
+            "}\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testGeneratedSerializer() throws Exception {
+        ClassLoader loader = compile();
+        Class<?> configType = loader.loadClass("example.Config");
+
+        //act
+        Class<?> generatedType = loader.loadClass(GeneratedSerializer.nameOf(configType));
+        Serializer.KeyValue<Object> generated = (Serializer.KeyValue<Object>) generatedType.getConstructor().newInstance();
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("port", 8080);
+        toLoad.put("HOST-NAME", "localhost");
+        Object config = generated.deserialize(toLoad);
+        Map<String, Object> entries = generated.serialize(config);
+
+        //assert
+        Assertions.assertEquals(configType, generated.ofType());
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertEquals(8080L, entries.get("port"));
+        Assertions.assertEquals("localhost", entries.get("host-name"));
+    }
+
+    @Test
+    public void testAutoSerializerUsesGenerated() throws Exception {
+        ClassLoader loader = compile();
+        Class<?> configType = loader.loadClass("example.Config");
+        AutoSerializer<Object> serializer = new AutoSerializer<>(configType);
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("port", true);
+        toLoad.put("host-name", "localhost");
+
+        //act
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> serializer.deserialize(toLoad));
+
+        //assert
+        Assertions.assertTrue(exception.getMessage().contains("Expected: long"));
+    }
+
+    @Test
+    public void testPrivateMembers() throws Exception {
+        ClassLoader loader = compile();
+        Class<?> configType = loader.loadClass("example.PrivateConfig");
+
+        //act
+        Class<?> generatedType = loader.loadClass(GeneratedSerializer.nameOf(configType));
+        Serializer.KeyValue<Object> generated = (Serializer.KeyValue<Object>) generatedType.getConstructor().newInstance();
+        Map<String, Object> toLoad = new HashMap<>();
+        toLoad.put("port", 8080);
+        toLoad.put("hosts", Arrays.asList("a", "b"));
+        Object config = generated.deserialize(toLoad);
+        Map<String, Object> entries = generated.serialize(config);
+
+        //assert
+        Assertions.assertEquals(8080, entries.get("port"));
+        Assertions.assertEquals(Arrays.asList("a", "b"), entries.get("hosts"));
+    }
+
+    @Test
+    public void testPrivateClassIsSkipped() throws Exception {
+        ClassLoader loader = compile();
+        Class<?> hiddenType = loader.loadClass("example.PrivateConfig$Hidden");
+
+        //act assert
+        Assertions.assertThrows(ClassNotFoundException.class, () -> loader.loadClass(GeneratedSerializer.nameOf(hiddenType)));
+    }
+
+    @Test
+    public void testNamedModuleWithoutCompilerModule() throws Exception {
+        ClassLoader loader = compile(true);
+        Class<?> configType = loader.loadClass("example.Config");
+
+        //act
+        Class<?> generatedType = loader.loadClass(GeneratedSerializer.nameOf(configType));
+
+        //assert
+        Assertions.assertTrue(GeneratedSerializer.class.isAssignableFrom(generatedType));
+    }
+
+    @Test
+    public void testStaleSerializerIsIgnored() throws Exception {
+        Path sources = Files.createDirectories(this.directory.resolve("example"));
+        Path output = Files.createDirectories(this.directory.resolve("classes"));
+        List<File> files = Arrays.asList(
+                Files.write(sources.resolve("StaleConfig.java"), STALE_CONFIG.getBytes()).toFile(),
+                Files.write(sources.resolve("StaleConfig_ConfigSerializer.java"), STALE_SERIALIZER.getBytes()).toFile());
+        ClassLoader loader = compile(files, new ArrayList<>(Arrays.asList("-proc:none", "-d", output.toString())), false);
+        AutoSerializer<Object> serializer = new AutoSerializer<>(loader.loadClass("example.StaleConfig"));
+
+        //act
+        Map<String, Object> entries = serializer.serialize(serializer.deserialize(Collections.singletonMap("port", 8080)));
+
+        //assert
+        Assertions.assertEquals(8080L, entries.get("port"));
+    }
+
+    private ClassLoader compile() throws Exception {
+        return compile(false);
+    }
+
+    private ClassLoader compile(boolean module) throws Exception {
+        Path sources = Files.createDirectories(this.directory.resolve("example"));
+        Path output = Files.createDirectories(this.directory.resolve("classes"));
+        List<File> files = new ArrayList<>();
+        files.add(Files.write(sources.resolve("Config.java"), CONFIG.getBytes()).toFile());
+        files.add(Files.write(sources.resolve("PrivateConfig.java"), PRIVATE_CONFIG.getBytes()).toFile());
+        List<String> options = new ArrayList<>(Arrays.asList("-Werror", "-d", output.toString()));
+        if (module) {
+            files.add(Files.write(this.directory.resolve("module-info.java"), MODULE_INFO.getBytes()).toFile());
+            //EasyConfig sits on the class path, so the module reads it as the unnamed module
+            options.add("--add-reads");
+            options.add("example=ALL-UNNAMED");
+        }
+
+        return compile(files, options, true);
+    }
+
+    private ClassLoader compile(List<File> files, List<String> options, boolean process) throws Exception {
+        String classPath = new File(GeneratedSerializer.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        Path output = this.directory.resolve("classes");
+        options.add("-classpath");
+        options.add(classPath);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(files);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            if (process) {
+                task.setProcessors(Collections.singletonList(new ConfigProcessor()));
+            }
+            Assertions.assertTrue(task.call());
+        }
+        return new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+    }
+}